@@ -0,0 +1,44 @@
+package com.eaglebank.api.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import com.eaglebank.api.dto.account.ListBankAccountsResponse;
+import com.eaglebank.api.service.account.BankAccountService;
+
+@State(Scope.Benchmark)
+public class BankAccountServiceBenchmark {
+
+  @Param({"1", "10"})
+  public int accountsPerUser;
+
+  private ConfigurableApplicationContext context;
+  private BankAccountService bankAccountService;
+  private String email;
+
+  @Setup(Level.Trial)
+  public void setUp() {
+    context = BenchmarkContext.start();
+    bankAccountService = context.getBean(BankAccountService.class);
+    email = BenchmarkContext.createUser(context);
+    for (int i = 0; i < accountsPerUser; i++) {
+      BenchmarkContext.createAccount(context, email);
+    }
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() {
+    context.close();
+  }
+
+  @Benchmark
+  public ListBankAccountsResponse getBankAccountsForUser() {
+    return bankAccountService.getBankAccountsForUser(email);
+  }
+}
@@ -0,0 +1,60 @@
+package com.eaglebank.api.benchmark;
+
+import java.util.Arrays;
+import java.util.UUID;
+
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import com.eaglebank.api.EagleBankApiApplication;
+import com.eaglebank.api.dto.account.CreateBankAccountRequest;
+import com.eaglebank.api.dto.user.CreateUserRequest;
+import com.eaglebank.api.model.account.BankAccountType;
+import com.eaglebank.api.model.user.Address;
+import com.eaglebank.api.service.account.BankAccountService;
+import com.eaglebank.api.service.user.UserService;
+
+// Boots the application against the in-memory H2 database from application.properties.
+// SQL logging, the background ledger reconciler and the outbox file sink are switched off so
+// none of them competes with the code being measured.
+// Overrides are passed as command-line arguments: builder default properties rank below
+// application.properties and would be silently ignored for every key it already sets.
+final class BenchmarkContext {
+
+  private static final String[] OVERRIDES = {
+      "--server.port=0",
+      "--management.server.port=0",
+      "--spring.jpa.show-sql=false",
+      "--eaglebank.ledger.reconciler.enabled=false",
+      "--eaglebank.outbox.file-sink.enabled=false",
+      "--logging.level.root=WARN",
+      "--logging.level.com.eaglebank.api=WARN",
+      "--logging.level.org.hibernate.SQL=WARN",
+      "--logging.level.org.hibernate.type.descriptor.sql.BasicBinder=WARN"
+  };
+
+  private BenchmarkContext() {
+  }
+
+  // extraArguments use the same --key=value form and must not repeat a key from OVERRIDES
+  static ConfigurableApplicationContext start(String... extraArguments) {
+    String[] args = Arrays.copyOf(OVERRIDES, OVERRIDES.length + extraArguments.length);
+    System.arraycopy(extraArguments, 0, args, OVERRIDES.length, extraArguments.length);
+    return new SpringApplicationBuilder(EagleBankApiApplication.class).run(args);
+  }
+
+  static String createUser(ConfigurableApplicationContext context) {
+    String email = "bench-" + UUID.randomUUID() + "@example.com";
+    CreateUserRequest request = new CreateUserRequest("Benchmark User",
+        new Address("1 Bench Street", null, null, "London", "Greater London", "E1 1AA"), "+447700900000", email);
+    request.setPassword("password123");
+    context.getBean(UserService.class).createUser(request);
+    return email;
+  }
+
+  static String createAccount(ConfigurableApplicationContext context, String email) {
+    return context.getBean(BankAccountService.class)
+        .createBankAccount(new CreateBankAccountRequest("Benchmark Account", BankAccountType.CURRENT), email)
+        .getAccountNumber();
+  }
+}
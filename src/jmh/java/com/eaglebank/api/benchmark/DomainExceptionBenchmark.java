@@ -0,0 +1,46 @@
+package com.eaglebank.api.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+import com.eaglebank.api.exception.InsufficientFundsException;
+
+// Cost of throwing a business rejection from below a request-sized stack. A request reaches the
+// service layer through roughly 100 frames of filters, MVC, proxies and templates, and filling in
+// the stack trace walks all of them; the stackless domain exceptions skip that walk.
+@State(Scope.Benchmark)
+public class DomainExceptionBenchmark {
+
+  @Param({"10", "100"})
+  public int stackDepth;
+
+  @Benchmark
+  public Object throwIllegalArgumentException() {
+    try {
+      return descend(stackDepth, false);
+    } catch (RuntimeException e) {
+      return e;
+    }
+  }
+
+  @Benchmark
+  public Object throwStacklessDomainException() {
+    try {
+      return descend(stackDepth, true);
+    } catch (RuntimeException e) {
+      return e;
+    }
+  }
+
+  private static Object descend(int depth, boolean stackless) {
+    if (depth > 0) {
+      return descend(depth - 1, stackless);
+    }
+    if (stackless) {
+      throw new InsufficientFundsException();
+    }
+    throw new IllegalArgumentException("Insufficient funds");
+  }
+}
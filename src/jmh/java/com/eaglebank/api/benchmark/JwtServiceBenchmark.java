@@ -0,0 +1,41 @@
+package com.eaglebank.api.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import com.eaglebank.api.service.jwt.JwtService;
+
+@State(Scope.Benchmark)
+public class JwtServiceBenchmark {
+
+  private ConfigurableApplicationContext context;
+  private JwtService jwtService;
+  private String token;
+
+  @Setup(Level.Trial)
+  public void setUp() {
+    context = BenchmarkContext.start();
+    jwtService = context.getBean(JwtService.class);
+    token = jwtService.generateToken("bench@example.com");
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() {
+    context.close();
+  }
+
+  @Benchmark
+  public String validateTokenAndGetUsername() {
+    return jwtService.validateTokenAndGetUsername(token);
+  }
+
+  @Benchmark
+  public String generateToken() {
+    return jwtService.generateToken("bench@example.com");
+  }
+}
@@ -0,0 +1,40 @@
+package com.eaglebank.api.benchmark;
+
+import java.util.regex.Pattern;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+import com.eaglebank.api.utils.IdentifierFormats;
+
+// Compares the per-request String.matches the controllers used to call, a precompiled Pattern,
+// and the char-scanning checks behind the @AccountNumber / @TransactionId / @UserId constraints.
+@State(Scope.Benchmark)
+public class PathValidationBenchmark {
+
+  private static final Pattern ACCOUNT_NUMBER = Pattern.compile("^01\\d{6}$");
+  private static final Pattern TRANSACTION_ID = Pattern.compile("^tan-[A-Za-z0-9]+$");
+
+  @Param({"01234567", "0123456x"})
+  public String accountNumber;
+
+  @Param({"tan-1a2b3c4d", "tan-1a2b-3c4d"})
+  public String transactionId;
+
+  @Benchmark
+  public boolean stringMatches() {
+    return accountNumber.matches("^01\\d{6}$") & transactionId.matches("^tan-[A-Za-z0-9]+$");
+  }
+
+  @Benchmark
+  public boolean precompiledPattern() {
+    return ACCOUNT_NUMBER.matcher(accountNumber).matches() & TRANSACTION_ID.matcher(transactionId).matches();
+  }
+
+  @Benchmark
+  public boolean charScanning() {
+    return IdentifierFormats.isAccountNumber(accountNumber) & IdentifierFormats.isTransactionId(transactionId);
+  }
+}
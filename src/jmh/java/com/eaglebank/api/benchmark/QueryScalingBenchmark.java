@@ -0,0 +1,170 @@
+package com.eaglebank.api.benchmark;
+
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import com.eaglebank.api.model.account.BankAccount;
+import com.eaglebank.api.model.transaction.Transaction;
+import com.eaglebank.api.model.user.User;
+import com.eaglebank.api.repository.BankAccountRepository;
+import com.eaglebank.api.repository.TransactionRepository;
+import com.eaglebank.api.repository.UserRepository;
+
+// Every account holds the same number of transactions, so with the indexes in place the
+// per-query cost should stay flat while the tables grow from 10k to 10M transaction rows.
+// The second-level and query caches are off so every call reaches the database.
+@State(Scope.Benchmark)
+@Fork(value = 1, jvmArgsAppend = "-Xmx12g")
+public class QueryScalingBenchmark {
+
+  private static final int TRANSACTIONS_PER_ACCOUNT = 100;
+  private static final int BATCH_SIZE = 10_000;
+
+  @Param({"10000", "100000", "1000000", "10000000"})
+  public int transactionRows;
+
+  private ConfigurableApplicationContext context;
+  private TransactionRepository transactionRepository;
+  private BankAccountRepository bankAccountRepository;
+  private UserRepository userRepository;
+  private String targetAccountNumber;
+  private String targetEmail;
+  private String targetTransactionId;
+
+  @Setup(Level.Trial)
+  public void setUp() {
+    context = BenchmarkContext.start(
+        "--spring.jpa.properties.hibernate.cache.use_second_level_cache=false",
+        "--spring.jpa.properties.hibernate.cache.use_query_cache=false");
+    transactionRepository = context.getBean(TransactionRepository.class);
+    bankAccountRepository = context.getBean(BankAccountRepository.class);
+    userRepository = context.getBean(UserRepository.class);
+    seed(context.getBean(JdbcTemplate.class));
+
+    // Query an account in the middle of the key range
+    int target = accountCount() / 2;
+    targetAccountNumber = accountNumber(target);
+    targetEmail = email(target);
+    targetTransactionId = transactionId(target * TRANSACTIONS_PER_ACCOUNT + TRANSACTIONS_PER_ACCOUNT / 2);
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() {
+    context.close();
+  }
+
+  @Benchmark
+  public List<Transaction> listTransactionPage() {
+    return transactionRepository.findByAccountNumberOrderByCreatedTimestampDescIdDesc(
+        targetAccountNumber, PageRequest.of(0, 50));
+  }
+
+  @Benchmark
+  public Optional<Transaction> findTransactionByIdAndAccountNumber() {
+    return transactionRepository.findByIdAndAccountNumber(targetTransactionId, targetAccountNumber);
+  }
+
+  @Benchmark
+  public boolean existsTransactionByAccountNumber() {
+    return transactionRepository.existsByAccountNumber(targetAccountNumber);
+  }
+
+  @Benchmark
+  public List<BankAccount> findAccountsByUserEmail() {
+    return bankAccountRepository.findByUserEmail(targetEmail);
+  }
+
+  @Benchmark
+  public Optional<BankAccount> findAccountByNumberAndUserEmail() {
+    return bankAccountRepository.findByAccountNumberAndUserEmail(targetAccountNumber, targetEmail);
+  }
+
+  @Benchmark
+  public Optional<User> findUserByEmail() {
+    return userRepository.findByEmail(targetEmail);
+  }
+
+  private void seed(JdbcTemplate jdbcTemplate) {
+    LocalDateTime now = LocalDateTime.now();
+    Timestamp created = Timestamp.valueOf(now);
+
+    List<Object[]> users = new ArrayList<>();
+    List<Object[]> accounts = new ArrayList<>();
+    for (int i = 0; i < accountCount(); i++) {
+      users.add(new Object[] {userId(i), "Seed User", "+447700900000", email(i), "not-a-real-hash", created, created});
+      accounts.add(new Object[] {accountNumber(i), "10-10-10", "Seed Account", "CURRENT",
+          BigDecimal.valueOf(TRANSACTIONS_PER_ACCOUNT), "GBP", email(i), TRANSACTIONS_PER_ACCOUNT, created, created});
+      if (users.size() == BATCH_SIZE) {
+        insertUsersAndAccounts(jdbcTemplate, users, accounts);
+      }
+    }
+    insertUsersAndAccounts(jdbcTemplate, users, accounts);
+
+    List<Object[]> transactions = new ArrayList<>(BATCH_SIZE);
+    for (int i = 0; i < transactionRows; i++) {
+      int account = i / TRANSACTIONS_PER_ACCOUNT;
+      // Offset 0 is the newest deposit, so it carries the highest sequence number and running balance
+      long sequence = TRANSACTIONS_PER_ACCOUNT - i % TRANSACTIONS_PER_ACCOUNT;
+      transactions.add(new Object[] {transactionId(i), BigDecimal.ONE, "GBP", "deposit", "seed", userId(account),
+          accountNumber(account), Timestamp.valueOf(now.minusSeconds(i % TRANSACTIONS_PER_ACCOUNT)), sequence,
+          BigDecimal.valueOf(sequence)});
+      if (transactions.size() == BATCH_SIZE) {
+        insertTransactions(jdbcTemplate, transactions);
+      }
+    }
+    insertTransactions(jdbcTemplate, transactions);
+  }
+
+  private void insertUsersAndAccounts(JdbcTemplate jdbcTemplate, List<Object[]> users, List<Object[]> accounts) {
+    jdbcTemplate.batchUpdate("INSERT INTO users (id, name, phone_number, email, password_hash, created_timestamp,"
+        + " updated_timestamp) VALUES (?, ?, ?, ?, ?, ?, ?)", users);
+    jdbcTemplate.batchUpdate("INSERT INTO bank_accounts (account_number, sort_code, name, account_type, balance,"
+        + " currency, user_email, last_sequence_number, created_timestamp, updated_timestamp)"
+        + " VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?)", accounts);
+    users.clear();
+    accounts.clear();
+  }
+
+  private void insertTransactions(JdbcTemplate jdbcTemplate, List<Object[]> transactions) {
+    jdbcTemplate.batchUpdate("INSERT INTO transactions (id, amount, currency, type, reference, user_id,"
+        + " account_number, created_timestamp, sequence_number, balance_after)"
+        + " VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?)", transactions);
+    transactions.clear();
+  }
+
+  private int accountCount() {
+    return Math.max(1, transactionRows / TRANSACTIONS_PER_ACCOUNT);
+  }
+
+  private static String accountNumber(int index) {
+    return String.format("01%06d", index);
+  }
+
+  private static String email(int index) {
+    return "seed-" + index + "@example.com";
+  }
+
+  private static String userId(int index) {
+    return "usr-seed" + index;
+  }
+
+  private static String transactionId(int index) {
+    return "tan-seed" + index;
+  }
+}
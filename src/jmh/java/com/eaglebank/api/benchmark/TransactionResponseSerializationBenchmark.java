@@ -0,0 +1,59 @@
+package com.eaglebank.api.benchmark;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import com.eaglebank.api.dto.transaction.ListTransactionsResponse;
+import com.eaglebank.api.dto.transaction.TransactionResponse;
+import com.eaglebank.api.model.transaction.TransactionType;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+@State(Scope.Benchmark)
+public class TransactionResponseSerializationBenchmark {
+
+  private ConfigurableApplicationContext context;
+  private ObjectMapper objectMapper;
+  private TransactionResponse transaction;
+  private ListTransactionsResponse transactions;
+
+  @Setup(Level.Trial)
+  public void setUp() {
+    // Use the application's ObjectMapper so the configured modules and formats are measured
+    context = BenchmarkContext.start();
+    objectMapper = context.getBean(ObjectMapper.class);
+
+    transaction = new TransactionResponse("tan-1a2b3c4d", new BigDecimal("125.50"), "GBP", TransactionType.deposit,
+        "Salary", "usr-0123456789abcdef", LocalDateTime.of(2025, 7, 1, 9, 30, 15, 123_000_000));
+    List<TransactionResponse> page = new ArrayList<>();
+    for (int i = 0; i < 50; i++) {
+      page.add(transaction);
+    }
+    transactions = new ListTransactionsResponse(page);
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() {
+    context.close();
+  }
+
+  @Benchmark
+  public byte[] serializeTransaction() throws JsonProcessingException {
+    return objectMapper.writeValueAsBytes(transaction);
+  }
+
+  @Benchmark
+  public byte[] serializeTransactionList() throws JsonProcessingException {
+    return objectMapper.writeValueAsBytes(transactions);
+  }
+}
@@ -0,0 +1,83 @@
+package com.eaglebank.api.benchmark;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import com.eaglebank.api.dto.transaction.BatchTransactionRequest;
+import com.eaglebank.api.dto.transaction.CreateTransactionBatchResponse;
+import com.eaglebank.api.dto.transaction.CreateTransactionRequest;
+import com.eaglebank.api.dto.transaction.TransactionResponse;
+import com.eaglebank.api.exception.InsufficientFundsException;
+import com.eaglebank.api.model.transaction.TransactionType;
+import com.eaglebank.api.service.transaction.TransactionService;
+
+@State(Scope.Benchmark)
+public class TransactionServiceBenchmark {
+
+  private static final int BATCH_SIZE = 100;
+
+  private ConfigurableApplicationContext context;
+  private TransactionService transactionService;
+  private String email;
+  private String accountNumber;
+  private String emptyAccountNumber;
+  private CreateTransactionRequest deposit;
+  private CreateTransactionRequest withdrawal;
+  private List<BatchTransactionRequest> batch;
+  private long invocations;
+
+  @Setup(Level.Trial)
+  public void setUp() {
+    context = BenchmarkContext.start();
+    transactionService = context.getBean(TransactionService.class);
+    email = BenchmarkContext.createUser(context);
+    accountNumber = BenchmarkContext.createAccount(context, email);
+    emptyAccountNumber = BenchmarkContext.createAccount(context, email);
+    deposit = new CreateTransactionRequest(new BigDecimal("10.00"), "GBP", TransactionType.deposit, "benchmark");
+    withdrawal = new CreateTransactionRequest(new BigDecimal("10.00"), "GBP", TransactionType.withdrawal, "benchmark");
+
+    batch = new ArrayList<>(BATCH_SIZE);
+    for (int i = 0; i < BATCH_SIZE; i++) {
+      TransactionType type = (i & 1) == 0 ? TransactionType.deposit : TransactionType.withdrawal;
+      batch.add(new BatchTransactionRequest(accountNumber, new BigDecimal("10.00"), "GBP", type, "benchmark"));
+    }
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() {
+    context.close();
+  }
+
+  // Alternates deposits and withdrawals so the balance stays inside the account limits
+  @Benchmark
+  public TransactionResponse createTransaction() {
+    CreateTransactionRequest request = (invocations++ & 1) == 0 ? deposit : withdrawal;
+    return transactionService.createTransaction(accountNumber, request, email);
+  }
+
+  // Compare against BATCH_SIZE calls of createTransaction to see the saved round trips
+  @Benchmark
+  public CreateTransactionBatchResponse createTransactionBatch() {
+    return transactionService.createTransactions(batch, email);
+  }
+
+  // A withdrawal from an empty account is rejected every time, so this measures the business
+  // rejection path end to end: lookup, balance check and the thrown InsufficientFundsException
+  @Benchmark
+  public Object rejectWithdrawal() {
+    try {
+      return transactionService.createTransaction(emptyAccountNumber, withdrawal, email);
+    } catch (InsufficientFundsException e) {
+      return e;
+    }
+  }
+}
@@ -0,0 +1,17 @@
+package com.eaglebank.api.config;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.eaglebank.api.metrics.QueryCounter;
+
+@Configuration
+public class QueryCountConfig {
+
+  @Bean
+  public HibernatePropertiesCustomizer queryCounterCustomizer(QueryCounter queryCounter) {
+    return hibernateProperties -> hibernateProperties.put(AvailableSettings.STATEMENT_INSPECTOR, queryCounter);
+  }
+}
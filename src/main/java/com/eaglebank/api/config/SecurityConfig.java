@@ -1,7 +1,9 @@
 package com.eaglebank.api.config;
 
 import com.eaglebank.api.filter.JwtAuthFilter;
+
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
@@ -9,22 +11,43 @@ import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
 import org.springframework.web.servlet.config.annotation.EnableWebMvc;
 
+import jakarta.servlet.DispatcherType;
+import jakarta.servlet.http.HttpServletRequest;
+
 @Configuration
 @EnableWebMvc
 public class SecurityConfig {
 
     @Autowired private JwtAuthFilter authFilter;
 
+    @Value("${server.port:8080}")
+    private int serverPort;
+
+    @Value("${management.server.port:-1}")
+    private int managementPort;
+
     @Bean
     public SecurityFilterChain filterChain(HttpSecurity http) throws Exception {
         return http
             .csrf(csrf -> csrf.disable())
             .headers(headers -> headers.frameOptions(frameOptions -> frameOptions.disable()))
             .authorizeHttpRequests(auth -> auth
+                // The request that started an async response (the account event stream) was already
+                // authorised; JwtAuthFilter does not run again on the async dispatch that completes it
+                .dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll()
                 .requestMatchers("/v1/login", "/v1/users", "/h2-console/**").permitAll()
+                // Actuator on the internal management port is scraped by Prometheus without a user token
+                .requestMatchers(this::isManagementRequest).permitAll()
                 .anyRequest().authenticated()
             )
             .addFilterBefore(authFilter, UsernamePasswordAuthenticationFilter.class)
             .build();
     }
+
+    // Only when actuator really runs on its own port, never on the port that serves the API
+    private boolean isManagementRequest(HttpServletRequest request) {
+        return managementPort > 0 && managementPort != serverPort
+            && request.getLocalPort() == managementPort
+            && request.getRequestURI().startsWith("/actuator/");
+    }
   }
@@ -1,9 +1,14 @@
 package com.eaglebank.api.controllers;
 
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
 import java.util.Arrays;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.DeleteMapping;
@@ -12,135 +17,135 @@ import org.springframework.web.bind.annotation.PatchMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
+import com.eaglebank.api.dto.account.BalanceResponse;
 import com.eaglebank.api.dto.account.BankAccountResponse;
 import com.eaglebank.api.dto.account.CreateBankAccountRequest;
 import com.eaglebank.api.dto.account.ListBankAccountsResponse;
 import com.eaglebank.api.dto.account.UpdateBankAccountRequest;
 import com.eaglebank.api.dto.error.BadRequestErrorResponse;
-import com.eaglebank.api.dto.error.ErrorResponse;
+import com.eaglebank.api.dto.statement.StatementResponse;
+import com.eaglebank.api.model.statement.StatementPeriod;
+import com.eaglebank.api.service.account.AccountEventService;
 import com.eaglebank.api.service.account.BankAccountService;
+import com.eaglebank.api.service.statement.StatementService;
+import com.eaglebank.api.validation.AccountNumber;
 
 import jakarta.validation.Valid;
 
 @RestController
 public class BankAccountController {
 
+  private static final int MAX_STATEMENT_DAYS = 366;
+
   @Autowired
   private BankAccountService bankAccountService;
 
+  @Autowired
+  private AccountEventService accountEventService;
+
+  @Autowired
+  private StatementService statementService;
+
   @PostMapping("/v1/accounts")
   public ResponseEntity<?> createAccount(
       @Valid @RequestBody CreateBankAccountRequest request,
       Authentication authentication) {
-    try {
-      String userEmail = authentication.getName();
-      BankAccountResponse response = bankAccountService.createBankAccount(request, userEmail);
-      return ResponseEntity.status(HttpStatus.CREATED).body(response);
-    } catch (Exception e) {
-      return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
-          .body(new ErrorResponse("An unexpected error occurred"));
-    }
+    String userEmail = authentication.getName();
+    BankAccountResponse response = bankAccountService.createBankAccount(request, userEmail);
+    return ResponseEntity.status(HttpStatus.CREATED).body(response);
   }
 
   @GetMapping("/v1/accounts")
   public ResponseEntity<?> listAccounts(Authentication authentication) {
-    try {
-      String userEmail = authentication.getName();
-      ListBankAccountsResponse response = bankAccountService.getBankAccountsForUser(userEmail);
-      return ResponseEntity.ok(response);
-    } catch (Exception e) {
-      return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
-          .body(new ErrorResponse("An unexpected error occurred"));
-    }
+    String userEmail = authentication.getName();
+    ListBankAccountsResponse response = bankAccountService.getBankAccountsForUser(userEmail);
+    return ResponseEntity.ok(response);
   }
 
   @GetMapping("/v1/accounts/{accountNumber}")
   public ResponseEntity<?> getAccount(
-      @PathVariable String accountNumber,
+      @PathVariable @AccountNumber String accountNumber,
+      Authentication authentication) {
+    String userEmail = authentication.getName();
+    BankAccountResponse response = bankAccountService.getBankAccountByAccountNumber(accountNumber, userEmail);
+    return ResponseEntity.ok(response);
+  }
+
+  @GetMapping("/v1/accounts/{accountNumber}/balance")
+  public ResponseEntity<?> getBalance(
+      @PathVariable @AccountNumber String accountNumber,
+      @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime at,
       Authentication authentication) {
-    try {
-      // Validate account number format
-      if (!accountNumber.matches("^01\\d{6}$")) {
-        BadRequestErrorResponse.ValidationError validationError =
-            new BadRequestErrorResponse.ValidationError("accountNumber", "Invalid account number format", "format");
-        return ResponseEntity.badRequest()
-            .body(new BadRequestErrorResponse("Validation failed", Arrays.asList(validationError)));
-      }
-
-      String userEmail = authentication.getName();
-      BankAccountResponse response = bankAccountService.getBankAccountByAccountNumber(accountNumber, userEmail);
-      return ResponseEntity.ok(response);
-      
-    } catch (SecurityException e) {
-      return ResponseEntity.status(HttpStatus.FORBIDDEN)
-          .body(new ErrorResponse("The user is not allowed to access the bank account details"));
-    } catch (IllegalArgumentException e) {
-      return ResponseEntity.status(HttpStatus.NOT_FOUND)
-          .body(new ErrorResponse("Bank account was not found"));
-    } catch (Exception e) {
-      return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
-          .body(new ErrorResponse("An unexpected error occurred"));
+    String userEmail = authentication.getName();
+    BalanceResponse response = bankAccountService.getBalance(accountNumber, at, userEmail);
+    return ResponseEntity.ok(response);
+  }
+
+  // Totals per day or month from the rollup table, so the cost depends on the number of periods
+  // in the range rather than the number of transactions
+  @GetMapping("/v1/accounts/{accountNumber}/statement")
+  public ResponseEntity<?> getStatement(
+      @PathVariable @AccountNumber String accountNumber,
+      @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+      @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+      @RequestParam(defaultValue = "month") String granularity,
+      Authentication authentication) {
+    StatementPeriod period = "day".equals(granularity) ? StatementPeriod.DAY
+        : "month".equals(granularity) ? StatementPeriod.MONTH : null;
+    if (period == null) {
+      return statementValidationError("granularity", "Granularity must be day or month", "validation");
+    }
+    if (from.isAfter(to)) {
+      return statementValidationError("from", "From must not be after to", "range");
+    }
+    if (period == StatementPeriod.DAY && ChronoUnit.DAYS.between(from, to) >= MAX_STATEMENT_DAYS) {
+      return statementValidationError("to", "Daily statements can cover at most " + MAX_STATEMENT_DAYS + " days",
+          "range");
     }
+
+    String userEmail = authentication.getName();
+    StatementResponse response = statementService.getStatement(accountNumber, from, to, period, userEmail);
+    return ResponseEntity.ok(response);
+  }
+
+  private static ResponseEntity<?> statementValidationError(String field, String message, String type) {
+    BadRequestErrorResponse.ValidationError validationError =
+        new BadRequestErrorResponse.ValidationError(field, message, type);
+    return ResponseEntity.badRequest()
+        .body(new BadRequestErrorResponse("Validation failed", Arrays.asList(validationError)));
+  }
+
+  // Live feed of new transactions and balance changes, replacing polling of the list endpoints
+  @GetMapping(value = "/v1/accounts/{accountNumber}/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+  public ResponseEntity<SseEmitter> streamAccountEvents(
+      @PathVariable @AccountNumber String accountNumber,
+      Authentication authentication) {
+    String userEmail = authentication.getName();
+    SseEmitter emitter = accountEventService.subscribe(accountNumber, userEmail);
+    // Stops proxies such as nginx from buffering the stream
+    return ResponseEntity.ok().header("X-Accel-Buffering", "no").body(emitter);
   }
 
   @PatchMapping("/v1/accounts/{accountNumber}")
   public ResponseEntity<?> updateAccount(
-      @PathVariable String accountNumber,
+      @PathVariable @AccountNumber String accountNumber,
       @Valid @RequestBody UpdateBankAccountRequest request,
       Authentication authentication) {
-    try {
-      // Validate account number format
-      if (!accountNumber.matches("^01\\d{6}$")) {
-        BadRequestErrorResponse.ValidationError validationError =
-            new BadRequestErrorResponse.ValidationError("accountNumber", "Invalid account number format", "format");
-        return ResponseEntity.badRequest()
-            .body(new BadRequestErrorResponse("Validation failed", Arrays.asList(validationError)));
-      }
-
-      String userEmail = authentication.getName();
-      BankAccountResponse response = bankAccountService.updateBankAccount(accountNumber, request, userEmail);
-      return ResponseEntity.ok(response);
-      
-    } catch (SecurityException e) {
-      return ResponseEntity.status(HttpStatus.FORBIDDEN)
-          .body(new ErrorResponse("The user is not allowed to update the bank account details"));
-    } catch (IllegalArgumentException e) {
-      return ResponseEntity.status(HttpStatus.NOT_FOUND)
-          .body(new ErrorResponse("Bank account was not found"));
-    } catch (Exception e) {
-      return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
-          .body(new ErrorResponse("An unexpected error occurred"));
-    }
+    String userEmail = authentication.getName();
+    BankAccountResponse response = bankAccountService.updateBankAccount(accountNumber, request, userEmail);
+    return ResponseEntity.ok(response);
   }
 
   @DeleteMapping("/v1/accounts/{accountNumber}")
   public ResponseEntity<?> deleteAccount(
-      @PathVariable String accountNumber,
+      @PathVariable @AccountNumber String accountNumber,
       Authentication authentication) {
-    try {
-      // Validate account number format
-      if (!accountNumber.matches("^01\\d{6}$")) {
-        BadRequestErrorResponse.ValidationError validationError =
-            new BadRequestErrorResponse.ValidationError("accountNumber", "Invalid account number format", "format");
-        return ResponseEntity.badRequest()
-            .body(new BadRequestErrorResponse("Validation failed", Arrays.asList(validationError)));
-      }
-
-      String userEmail = authentication.getName();
-      bankAccountService.deleteBankAccount(accountNumber, userEmail);
-      return ResponseEntity.noContent().build();
-      
-    } catch (SecurityException e) {
-      return ResponseEntity.status(HttpStatus.FORBIDDEN)
-          .body(new ErrorResponse("The user is not allowed to delete the bank account details"));
-    } catch (IllegalArgumentException e) {
-      return ResponseEntity.status(HttpStatus.NOT_FOUND)
-          .body(new ErrorResponse("Bank account was not found"));
-    } catch (Exception e) {
-      return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
-          .body(new ErrorResponse("An unexpected error occurred"));
-    }
+    String userEmail = authentication.getName();
+    bankAccountService.deleteBankAccount(accountNumber, userEmail);
+    return ResponseEntity.noContent().build();
   }
 }
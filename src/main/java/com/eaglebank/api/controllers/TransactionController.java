@@ -1,8 +1,11 @@
 package com.eaglebank.api.controllers;
 
+import java.io.IOException;
 import java.util.Arrays;
+import java.util.zip.GZIPOutputStream;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
@@ -10,136 +13,154 @@ import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 import com.eaglebank.api.dto.error.BadRequestErrorResponse;
-import com.eaglebank.api.dto.error.ErrorResponse;
+import com.eaglebank.api.dto.transaction.CreateTransactionBatchRequest;
+import com.eaglebank.api.dto.transaction.CreateTransactionBatchResponse;
 import com.eaglebank.api.dto.transaction.CreateTransactionRequest;
 import com.eaglebank.api.dto.transaction.ListTransactionsResponse;
+import com.eaglebank.api.dto.transaction.TransactionCursor;
 import com.eaglebank.api.dto.transaction.TransactionResponse;
+import com.eaglebank.api.service.transaction.TransactionExportFormat;
+import com.eaglebank.api.service.transaction.TransactionExportService;
 import com.eaglebank.api.service.transaction.TransactionService;
+import com.eaglebank.api.validation.AccountNumber;
+import com.eaglebank.api.validation.TransactionId;
+import com.fasterxml.jackson.databind.ObjectMapper;
 
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
+import jakarta.validation.constraints.Size;
 
 @RestController
 public class TransactionController {
 
+  private static final int DEFAULT_PAGE_SIZE = 50;
+  private static final int MAX_PAGE_SIZE = 100;
+
   @Autowired
   private TransactionService transactionService;
 
+  @Autowired
+  private TransactionExportService transactionExportService;
+
+  @Autowired
+  private ObjectMapper objectMapper;
+
   @PostMapping("/v1/accounts/{accountNumber}/transactions")
   public ResponseEntity<?> createTransaction(
-      @PathVariable String accountNumber,
+      @PathVariable @AccountNumber String accountNumber,
       @Valid @RequestBody CreateTransactionRequest request,
+      @RequestHeader(name = "Idempotency-Key", required = false) @Size(min = 1, max = 255) String idempotencyKey,
       Authentication authentication) {
-    try {
-      // Validate account number format
-      if (!accountNumber.matches("^01\\d{6}$")) {
-        BadRequestErrorResponse.ValidationError validationError =
-            new BadRequestErrorResponse.ValidationError("accountNumber", "Invalid account number format", "format");
-        return ResponseEntity.badRequest()
-            .body(new BadRequestErrorResponse("Validation failed", Arrays.asList(validationError)));
-      }
+    String userEmail = authentication.getName();
+    // A retry with the same key gets the original transaction back instead of posting a second one
+    TransactionResponse response =
+        transactionService.createTransaction(accountNumber, request, userEmail, idempotencyKey);
+    return ResponseEntity.status(HttpStatus.CREATED).body(response);
+  }
 
-      String userEmail = authentication.getName();
-      TransactionResponse response = transactionService.createTransaction(accountNumber, request, userEmail);
-      return ResponseEntity.status(HttpStatus.CREATED).body(response);
-      
-    } catch (SecurityException e) {
-      return ResponseEntity.status(HttpStatus.FORBIDDEN)
-          .body(new ErrorResponse("The user is not allowed to access the transaction"));
-    } catch (IllegalArgumentException e) {
-      String message = e.getMessage();
-      if (message.contains("Account not found")) {
-        return ResponseEntity.status(HttpStatus.NOT_FOUND)
-            .body(new ErrorResponse("Bank account was not found"));
-      } else if (message.contains("Insufficient funds")) {
-        return ResponseEntity.status(HttpStatus.UNPROCESSABLE_ENTITY)
-            .body(new ErrorResponse("Insufficient funds to process transaction"));
-      } else {
-        BadRequestErrorResponse.ValidationError validationError =
-            new BadRequestErrorResponse.ValidationError("general", message, "validation");
-        return ResponseEntity.badRequest()
-            .body(new BadRequestErrorResponse("Validation failed", Arrays.asList(validationError)));
-      }
-    } catch (Exception e) {
-      return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
-          .body(new ErrorResponse("An unexpected error occurred"));
-    }
+  @PostMapping("/v1/transactions/batch")
+  public ResponseEntity<?> createTransactions(
+      @Valid @RequestBody CreateTransactionBatchRequest request,
+      Authentication authentication) {
+    String userEmail = authentication.getName();
+    CreateTransactionBatchResponse response =
+        transactionService.createTransactions(request.getTransactions(), userEmail);
+    // Individual items can still fail; each one carries its own status in the results
+    return ResponseEntity.ok(response);
   }
 
   @GetMapping("/v1/accounts/{accountNumber}/transactions")
   public ResponseEntity<?> getTransactions(
-      @PathVariable String accountNumber,
-      Authentication authentication) {
-    try {
-      // Validate account number format
-      if (!accountNumber.matches("^01\\d{6}$")) {
+      @PathVariable @AccountNumber String accountNumber,
+      @RequestParam(required = false) Integer limit,
+      @RequestParam(required = false) String cursor,
+      @RequestParam(defaultValue = "false") boolean stream,
+      Authentication authentication,
+      HttpServletResponse servletResponse) {
+    if (limit != null && (limit < 1 || limit > MAX_PAGE_SIZE)) {
+      BadRequestErrorResponse.ValidationError validationError =
+          new BadRequestErrorResponse.ValidationError("limit", "Limit must be between 1 and " + MAX_PAGE_SIZE, "range");
+      return ResponseEntity.badRequest()
+          .body(new BadRequestErrorResponse("Validation failed", Arrays.asList(validationError)));
+    }
+
+    TransactionCursor decodedCursor = null;
+    if (cursor != null) {
+      decodedCursor = TransactionCursor.decode(cursor);
+      if (decodedCursor == null) {
         BadRequestErrorResponse.ValidationError validationError =
-            new BadRequestErrorResponse.ValidationError("accountNumber", "Invalid account number format", "format");
+            new BadRequestErrorResponse.ValidationError("cursor", "Invalid cursor", "format");
         return ResponseEntity.badRequest()
             .body(new BadRequestErrorResponse("Validation failed", Arrays.asList(validationError)));
       }
+    }
 
-      String userEmail = authentication.getName();
-      ListTransactionsResponse response = transactionService.getTransactionsForAccount(accountNumber, userEmail);
-      return ResponseEntity.ok(response);
-      
-    } catch (SecurityException e) {
-      return ResponseEntity.status(HttpStatus.FORBIDDEN)
-          .body(new ErrorResponse("The user is not allowed to access the transactions"));
-    } catch (IllegalArgumentException e) {
-      return ResponseEntity.status(HttpStatus.NOT_FOUND)
-          .body(new ErrorResponse("Bank account was not found"));
-    } catch (Exception e) {
-      return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
-          .body(new ErrorResponse("An unexpected error occurred"));
+    if (stream && (limit != null || cursor != null)) {
+      BadRequestErrorResponse.ValidationError validationError =
+          new BadRequestErrorResponse.ValidationError("stream", "Streaming cannot be combined with limit or cursor", "validation");
+      return ResponseEntity.badRequest()
+          .body(new BadRequestErrorResponse("Validation failed", Arrays.asList(validationError)));
     }
+
+    String userEmail = authentication.getName();
+
+    if (stream) {
+      // Written straight to the servlet response; returning null tells Spring MVC it is handled
+      TransactionStreamWriter writer = new TransactionStreamWriter(objectMapper, servletResponse);
+      transactionService.forEachTransaction(accountNumber, userEmail, writer);
+      writer.finish();
+      return null;
+    }
+
+    ListTransactionsResponse response = (limit == null && decodedCursor == null)
+        ? transactionService.getTransactionsForAccount(accountNumber, userEmail)
+        : transactionService.getTransactionsForAccount(accountNumber, userEmail,
+            limit != null ? limit : DEFAULT_PAGE_SIZE, decodedCursor);
+    return ResponseEntity.ok(response);
+  }
+
+  // Full history as a file download for auditors and reconciliation jobs
+  @GetMapping("/v1/accounts/{accountNumber}/transactions/export")
+  public ResponseEntity<?> exportTransactions(
+      @PathVariable @AccountNumber String accountNumber,
+      @RequestParam(defaultValue = "csv") String format,
+      @RequestParam(defaultValue = "false") boolean gzip,
+      Authentication authentication,
+      HttpServletResponse servletResponse) throws IOException {
+    TransactionExportFormat exportFormat = "csv".equals(format) ? TransactionExportFormat.CSV
+        : "ndjson".equals(format) ? TransactionExportFormat.NDJSON : null;
+    if (exportFormat == null) {
+      BadRequestErrorResponse.ValidationError validationError =
+          new BadRequestErrorResponse.ValidationError("format", "Format must be csv or ndjson", "validation");
+      return ResponseEntity.badRequest()
+          .body(new BadRequestErrorResponse("Validation failed", Arrays.asList(validationError)));
+    }
+
+    String userEmail = authentication.getName();
+    String filename = accountNumber + "-transactions." + exportFormat.getExtension() + (gzip ? ".gz" : "");
+    // Headers are set only once access has been checked, so a 403 or 404 still goes out as JSON
+    transactionExportService.exportTransactions(accountNumber, userEmail, exportFormat, () -> {
+      servletResponse.setStatus(HttpStatus.OK.value());
+      servletResponse.setContentType(gzip ? "application/gzip" : exportFormat.getContentType() + ";charset=UTF-8");
+      servletResponse.setHeader(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"" + filename + "\"");
+      return gzip ? new GZIPOutputStream(servletResponse.getOutputStream(), 64 * 1024)
+          : servletResponse.getOutputStream();
+    });
+    return null;
   }
 
   @GetMapping("/v1/accounts/{accountNumber}/transactions/{transactionId}")
   public ResponseEntity<?> getTransaction(
-      @PathVariable String accountNumber,
-      @PathVariable String transactionId,
+      @PathVariable @AccountNumber String accountNumber,
+      @PathVariable @TransactionId String transactionId,
       Authentication authentication) {
-    try {
-      // Validate account number format
-      if (!accountNumber.matches("^01\\d{6}$")) {
-        BadRequestErrorResponse.ValidationError validationError =
-            new BadRequestErrorResponse.ValidationError("accountNumber", "Invalid account number format", "format");
-        return ResponseEntity.badRequest()
-            .body(new BadRequestErrorResponse("Validation failed", Arrays.asList(validationError)));
-      }
-
-      // Validate transaction ID format
-      if (!transactionId.matches("^tan-[A-Za-z0-9]+$")) {
-        BadRequestErrorResponse.ValidationError validationError =
-            new BadRequestErrorResponse.ValidationError("transactionId", "Invalid transaction ID format", "format");
-        return ResponseEntity.badRequest()
-            .body(new BadRequestErrorResponse("Validation failed", Arrays.asList(validationError)));
-      }
-
-      String userEmail = authentication.getName();
-      TransactionResponse response = transactionService.getTransactionById(accountNumber, transactionId, userEmail);
-      return ResponseEntity.ok(response);
-      
-    } catch (SecurityException e) {
-      return ResponseEntity.status(HttpStatus.FORBIDDEN)
-          .body(new ErrorResponse("The user is not allowed to access the transaction"));
-    } catch (IllegalArgumentException e) {
-      String message = e.getMessage();
-      if (message.contains("Account not found") || message.contains("Transaction not found")) {
-        return ResponseEntity.status(HttpStatus.NOT_FOUND)
-            .body(new ErrorResponse(message));
-      } else {
-        BadRequestErrorResponse.ValidationError validationError =
-            new BadRequestErrorResponse.ValidationError("general", message, "validation");
-        return ResponseEntity.badRequest()
-            .body(new BadRequestErrorResponse("Validation failed", Arrays.asList(validationError)));
-      }
-    } catch (Exception e) {
-      return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
-          .body(new ErrorResponse("An unexpected error occurred"));
-    }
+    String userEmail = authentication.getName();
+    TransactionResponse response = transactionService.getTransactionById(accountNumber, transactionId, userEmail);
+    return ResponseEntity.ok(response);
   }
 }
\ No newline at end of file
@@ -0,0 +1,56 @@
+package com.eaglebank.api.controllers;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.function.Consumer;
+
+import org.springframework.http.MediaType;
+
+import com.eaglebank.api.dto.transaction.TransactionResponse;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import jakarta.servlet.http.HttpServletResponse;
+
+// Writes {"transactions":[...]} one element at a time, so memory does not grow with the history.
+// The response is only touched on the first element or on finish(), which lets the caller
+// still send an error response if the access check fails first.
+class TransactionStreamWriter implements Consumer<TransactionResponse> {
+
+  private final ObjectMapper objectMapper;
+  private final HttpServletResponse response;
+  private JsonGenerator generator;
+
+  TransactionStreamWriter(ObjectMapper objectMapper, HttpServletResponse response) {
+    this.objectMapper = objectMapper;
+    this.response = response;
+  }
+
+  @Override
+  public void accept(TransactionResponse transaction) {
+    try {
+      start();
+      generator.writeObject(transaction);
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  void finish() throws IOException {
+    start();
+    generator.writeEndArray();
+    generator.writeEndObject();
+    generator.close();
+  }
+
+  private void start() throws IOException {
+    if (generator != null) {
+      return;
+    }
+    response.setStatus(HttpServletResponse.SC_OK);
+    response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+    generator = objectMapper.getFactory().createGenerator(response.getOutputStream());
+    generator.writeStartObject();
+    generator.writeArrayFieldStart("transactions");
+  }
+}
@@ -0,0 +1,57 @@
+package com.eaglebank.api.dto.account;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+
+public class BalanceResponse {
+
+  private String accountNumber;
+  private BigDecimal balance;
+  private String currency;
+  @JsonFormat(shape = JsonFormat.Shape.STRING, pattern = "yyyy-MM-dd'T'HH:mm:ss.SSS'Z'")
+  private LocalDateTime asOf;
+
+  public BalanceResponse() {
+  }
+
+  public BalanceResponse(String accountNumber, BigDecimal balance, String currency, LocalDateTime asOf) {
+    this.accountNumber = accountNumber;
+    this.balance = balance;
+    this.currency = currency;
+    this.asOf = asOf;
+  }
+
+  public String getAccountNumber() {
+    return accountNumber;
+  }
+
+  public void setAccountNumber(String accountNumber) {
+    this.accountNumber = accountNumber;
+  }
+
+  public BigDecimal getBalance() {
+    return balance;
+  }
+
+  public void setBalance(BigDecimal balance) {
+    this.balance = balance;
+  }
+
+  public String getCurrency() {
+    return currency;
+  }
+
+  public void setCurrency(String currency) {
+    this.currency = currency;
+  }
+
+  public LocalDateTime getAsOf() {
+    return asOf;
+  }
+
+  public void setAsOf(LocalDateTime asOf) {
+    this.asOf = asOf;
+  }
+}
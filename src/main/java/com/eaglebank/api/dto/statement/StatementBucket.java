@@ -0,0 +1,76 @@
+package com.eaglebank.api.dto.statement;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+import com.eaglebank.api.model.statement.AccountPeriodTotal;
+
+public class StatementBucket {
+
+  private LocalDate periodStart;
+  private BigDecimal depositTotal;
+  private long depositCount;
+  private BigDecimal withdrawalTotal;
+  private long withdrawalCount;
+  private BigDecimal net;
+
+  public StatementBucket() {
+  }
+
+  public StatementBucket(AccountPeriodTotal total) {
+    this.periodStart = total.getPeriodStart();
+    this.depositTotal = total.getDepositTotal();
+    this.depositCount = total.getDepositCount();
+    this.withdrawalTotal = total.getWithdrawalTotal();
+    this.withdrawalCount = total.getWithdrawalCount();
+    this.net = depositTotal.subtract(withdrawalTotal);
+  }
+
+  public LocalDate getPeriodStart() {
+    return periodStart;
+  }
+
+  public void setPeriodStart(LocalDate periodStart) {
+    this.periodStart = periodStart;
+  }
+
+  public BigDecimal getDepositTotal() {
+    return depositTotal;
+  }
+
+  public void setDepositTotal(BigDecimal depositTotal) {
+    this.depositTotal = depositTotal;
+  }
+
+  public long getDepositCount() {
+    return depositCount;
+  }
+
+  public void setDepositCount(long depositCount) {
+    this.depositCount = depositCount;
+  }
+
+  public BigDecimal getWithdrawalTotal() {
+    return withdrawalTotal;
+  }
+
+  public void setWithdrawalTotal(BigDecimal withdrawalTotal) {
+    this.withdrawalTotal = withdrawalTotal;
+  }
+
+  public long getWithdrawalCount() {
+    return withdrawalCount;
+  }
+
+  public void setWithdrawalCount(long withdrawalCount) {
+    this.withdrawalCount = withdrawalCount;
+  }
+
+  public BigDecimal getNet() {
+    return net;
+  }
+
+  public void setNet(BigDecimal net) {
+    this.net = net;
+  }
+}
@@ -0,0 +1,129 @@
+package com.eaglebank.api.dto.statement;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+public class StatementResponse {
+
+  private String accountNumber;
+  private String currency;
+  private String granularity;
+  private LocalDate from;
+  private LocalDate to;
+  private List<StatementBucket> periods;
+  private BigDecimal depositTotal = BigDecimal.ZERO;
+  private long depositCount;
+  private BigDecimal withdrawalTotal = BigDecimal.ZERO;
+  private long withdrawalCount;
+  private BigDecimal net = BigDecimal.ZERO;
+
+  public StatementResponse() {
+  }
+
+  // Range totals are the sum of the buckets; periods with no activity are left out
+  public StatementResponse(String accountNumber, String currency, String granularity, LocalDate from, LocalDate to,
+      List<StatementBucket> periods) {
+    this.accountNumber = accountNumber;
+    this.currency = currency;
+    this.granularity = granularity;
+    this.from = from;
+    this.to = to;
+    this.periods = periods;
+    for (StatementBucket period : periods) {
+      depositTotal = depositTotal.add(period.getDepositTotal());
+      depositCount += period.getDepositCount();
+      withdrawalTotal = withdrawalTotal.add(period.getWithdrawalTotal());
+      withdrawalCount += period.getWithdrawalCount();
+    }
+    this.net = depositTotal.subtract(withdrawalTotal);
+  }
+
+  public String getAccountNumber() {
+    return accountNumber;
+  }
+
+  public void setAccountNumber(String accountNumber) {
+    this.accountNumber = accountNumber;
+  }
+
+  public String getCurrency() {
+    return currency;
+  }
+
+  public void setCurrency(String currency) {
+    this.currency = currency;
+  }
+
+  public String getGranularity() {
+    return granularity;
+  }
+
+  public void setGranularity(String granularity) {
+    this.granularity = granularity;
+  }
+
+  public LocalDate getFrom() {
+    return from;
+  }
+
+  public void setFrom(LocalDate from) {
+    this.from = from;
+  }
+
+  public LocalDate getTo() {
+    return to;
+  }
+
+  public void setTo(LocalDate to) {
+    this.to = to;
+  }
+
+  public List<StatementBucket> getPeriods() {
+    return periods;
+  }
+
+  public void setPeriods(List<StatementBucket> periods) {
+    this.periods = periods;
+  }
+
+  public BigDecimal getDepositTotal() {
+    return depositTotal;
+  }
+
+  public void setDepositTotal(BigDecimal depositTotal) {
+    this.depositTotal = depositTotal;
+  }
+
+  public long getDepositCount() {
+    return depositCount;
+  }
+
+  public void setDepositCount(long depositCount) {
+    this.depositCount = depositCount;
+  }
+
+  public BigDecimal getWithdrawalTotal() {
+    return withdrawalTotal;
+  }
+
+  public void setWithdrawalTotal(BigDecimal withdrawalTotal) {
+    this.withdrawalTotal = withdrawalTotal;
+  }
+
+  public long getWithdrawalCount() {
+    return withdrawalCount;
+  }
+
+  public void setWithdrawalCount(long withdrawalCount) {
+    this.withdrawalCount = withdrawalCount;
+  }
+
+  public BigDecimal getNet() {
+    return net;
+  }
+
+  public void setNet(BigDecimal net) {
+    this.net = net;
+  }
+}
@@ -0,0 +1,31 @@
+package com.eaglebank.api.dto.transaction;
+
+import java.math.BigDecimal;
+
+import com.eaglebank.api.model.transaction.TransactionType;
+import com.eaglebank.api.validation.AccountNumber;
+import jakarta.validation.constraints.NotBlank;
+
+public class BatchTransactionRequest extends CreateTransactionRequest {
+
+  @NotBlank
+  @AccountNumber
+  private String accountNumber;
+
+  public BatchTransactionRequest() {
+  }
+
+  public BatchTransactionRequest(String accountNumber, BigDecimal amount, String currency, TransactionType type,
+      String reference) {
+    super(amount, currency, type, reference);
+    this.accountNumber = accountNumber;
+  }
+
+  public String getAccountNumber() {
+    return accountNumber;
+  }
+
+  public void setAccountNumber(String accountNumber) {
+    this.accountNumber = accountNumber;
+  }
+}
@@ -0,0 +1,62 @@
+package com.eaglebank.api.dto.transaction;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class BatchTransactionResult {
+
+  private int index;
+  private int status;
+  private TransactionResponse transaction;
+  private String message;
+
+  public BatchTransactionResult() {
+  }
+
+  public BatchTransactionResult(int index, int status, TransactionResponse transaction, String message) {
+    this.index = index;
+    this.status = status;
+    this.transaction = transaction;
+    this.message = message;
+  }
+
+  public static BatchTransactionResult created(int index, TransactionResponse transaction) {
+    return new BatchTransactionResult(index, 201, transaction, null);
+  }
+
+  public static BatchTransactionResult failed(int index, int status, String message) {
+    return new BatchTransactionResult(index, status, null, message);
+  }
+
+  public int getIndex() {
+    return index;
+  }
+
+  public void setIndex(int index) {
+    this.index = index;
+  }
+
+  public int getStatus() {
+    return status;
+  }
+
+  public void setStatus(int status) {
+    this.status = status;
+  }
+
+  public TransactionResponse getTransaction() {
+    return transaction;
+  }
+
+  public void setTransaction(TransactionResponse transaction) {
+    this.transaction = transaction;
+  }
+
+  public String getMessage() {
+    return message;
+  }
+
+  public void setMessage(String message) {
+    this.message = message;
+  }
+}
@@ -0,0 +1,32 @@
+package com.eaglebank.api.dto.transaction;
+
+import java.util.List;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+
+public class CreateTransactionBatchRequest {
+
+  public static final int MAX_BATCH_SIZE = 500;
+
+  @NotEmpty
+  @Size(max = MAX_BATCH_SIZE)
+  @Valid
+  private List<BatchTransactionRequest> transactions;
+
+  public CreateTransactionBatchRequest() {
+  }
+
+  public CreateTransactionBatchRequest(List<BatchTransactionRequest> transactions) {
+    this.transactions = transactions;
+  }
+
+  public List<BatchTransactionRequest> getTransactions() {
+    return transactions;
+  }
+
+  public void setTransactions(List<BatchTransactionRequest> transactions) {
+    this.transactions = transactions;
+  }
+}
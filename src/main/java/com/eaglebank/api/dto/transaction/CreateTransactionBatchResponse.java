@@ -0,0 +1,48 @@
+package com.eaglebank.api.dto.transaction;
+
+import java.util.List;
+
+public class CreateTransactionBatchResponse {
+
+  private int created;
+  private int failed;
+  private List<BatchTransactionResult> results;
+
+  public CreateTransactionBatchResponse() {
+  }
+
+  public CreateTransactionBatchResponse(List<BatchTransactionResult> results) {
+    this.results = results;
+    for (BatchTransactionResult result : results) {
+      if (result.getTransaction() != null) {
+        created++;
+      } else {
+        failed++;
+      }
+    }
+  }
+
+  public int getCreated() {
+    return created;
+  }
+
+  public void setCreated(int created) {
+    this.created = created;
+  }
+
+  public int getFailed() {
+    return failed;
+  }
+
+  public void setFailed(int failed) {
+    this.failed = failed;
+  }
+
+  public List<BatchTransactionResult> getResults() {
+    return results;
+  }
+
+  public void setResults(List<BatchTransactionResult> results) {
+    this.results = results;
+  }
+}
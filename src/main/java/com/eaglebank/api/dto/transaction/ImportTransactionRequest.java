@@ -0,0 +1,25 @@
+package com.eaglebank.api.dto.transaction;
+
+import java.time.LocalDateTime;
+
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.PastOrPresent;
+
+// One row of a historical ledger import; unlike API requests it carries its original timestamp
+public class ImportTransactionRequest extends BatchTransactionRequest {
+
+  @NotNull
+  @PastOrPresent
+  private LocalDateTime createdTimestamp;
+
+  public ImportTransactionRequest() {
+  }
+
+  public LocalDateTime getCreatedTimestamp() {
+    return createdTimestamp;
+  }
+
+  public void setCreatedTimestamp(LocalDateTime createdTimestamp) {
+    this.createdTimestamp = createdTimestamp;
+  }
+}
@@ -2,10 +2,16 @@ package com.eaglebank.api.dto.transaction;
 
 import java.util.List;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
+
 public class ListTransactionsResponse {
 
   private List<TransactionResponse> transactions;
 
+  // Only present on paginated responses that have further pages
+  @JsonInclude(JsonInclude.Include.NON_NULL)
+  private String nextCursor;
+
   public ListTransactionsResponse() {
   }
 
@@ -13,6 +19,11 @@ public class ListTransactionsResponse {
     this.transactions = transactions;
   }
 
+  public ListTransactionsResponse(List<TransactionResponse> transactions, String nextCursor) {
+    this.transactions = transactions;
+    this.nextCursor = nextCursor;
+  }
+
   public List<TransactionResponse> getTransactions() {
     return transactions;
   }
@@ -20,4 +31,12 @@ public class ListTransactionsResponse {
   public void setTransactions(List<TransactionResponse> transactions) {
     this.transactions = transactions;
   }
-}
\ No newline at end of file
+
+  public String getNextCursor() {
+    return nextCursor;
+  }
+
+  public void setNextCursor(String nextCursor) {
+    this.nextCursor = nextCursor;
+  }
+}
@@ -0,0 +1,51 @@
+package com.eaglebank.api.dto.transaction;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+import com.eaglebank.api.model.transaction.Transaction;
+
+public class TransactionCursor {
+
+  private final LocalDateTime createdTimestamp;
+  private final String id;
+
+  public TransactionCursor(LocalDateTime createdTimestamp, String id) {
+    this.createdTimestamp = createdTimestamp;
+    this.id = id;
+  }
+
+  public static TransactionCursor from(Transaction transaction) {
+    return new TransactionCursor(transaction.getCreatedTimestamp(), transaction.getId());
+  }
+
+  // Returns null when the value was not produced by encode()
+  public static TransactionCursor decode(String value) {
+    try {
+      String decoded = new String(Base64.getUrlDecoder().decode(value), StandardCharsets.UTF_8);
+      int separator = decoded.indexOf('|');
+      if (separator <= 0 || separator == decoded.length() - 1) {
+        return null;
+      }
+      return new TransactionCursor(
+          LocalDateTime.parse(decoded.substring(0, separator)), decoded.substring(separator + 1));
+    } catch (IllegalArgumentException | DateTimeParseException e) {
+      return null;
+    }
+  }
+
+  public String encode() {
+    String raw = createdTimestamp + "|" + id;
+    return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+  }
+
+  public LocalDateTime getCreatedTimestamp() {
+    return createdTimestamp;
+  }
+
+  public String getId() {
+    return id;
+  }
+}
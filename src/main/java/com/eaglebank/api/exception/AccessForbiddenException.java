@@ -0,0 +1,10 @@
+package com.eaglebank.api.exception;
+
+import org.springframework.http.HttpStatus;
+
+public class AccessForbiddenException extends DomainException {
+
+  public AccessForbiddenException(String message) {
+    super(HttpStatus.FORBIDDEN, message);
+  }
+}
@@ -0,0 +1,12 @@
+package com.eaglebank.api.exception;
+
+import org.springframework.http.HttpStatus;
+
+import com.eaglebank.api.model.account.BankAccount;
+
+public class BalanceLimitExceededException extends DomainException {
+
+  public BalanceLimitExceededException() {
+    super(HttpStatus.UNPROCESSABLE_ENTITY, "Deposit would take the balance above " + BankAccount.MAX_BALANCE);
+  }
+}
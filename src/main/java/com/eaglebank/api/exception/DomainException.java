@@ -0,0 +1,21 @@
+package com.eaglebank.api.exception;
+
+import org.springframework.http.HttpStatus;
+
+// Base for expected business outcomes (not found, forbidden, insufficient funds, ...). These are
+// thrown on hot paths and never logged with a trace, so the stack trace is not captured: filling
+// it in walks the whole call stack and dominates the cost of throwing. GlobalExceptionHandler maps
+// each one to its status with the message as the response body.
+public abstract class DomainException extends RuntimeException {
+
+  private final HttpStatus status;
+
+  protected DomainException(HttpStatus status, String message) {
+    super(message, null, false, false);
+    this.status = status;
+  }
+
+  public HttpStatus getStatus() {
+    return status;
+  }
+}
@@ -3,16 +3,25 @@ package com.eaglebank.api.exception;
 import java.util.ArrayList;
 import java.util.List;
 
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.MessageSourceResolvable;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.http.converter.HttpMessageNotReadableException;
 import org.springframework.validation.FieldError;
+import org.springframework.validation.method.ParameterErrors;
+import org.springframework.validation.method.ParameterValidationResult;
 import org.springframework.web.bind.MethodArgumentNotValidException;
+import org.springframework.web.bind.MissingServletRequestParameterException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.method.annotation.HandlerMethodValidationException;
+import org.springframework.web.method.annotation.MethodArgumentTypeMismatchException;
 
 import com.eaglebank.api.dto.error.BadRequestErrorResponse;
 import com.eaglebank.api.dto.error.ErrorResponse;
+import com.eaglebank.api.metrics.BusinessMetrics;
 import com.fasterxml.jackson.databind.exc.InvalidFormatException;
 
 import jakarta.validation.ConstraintViolation;
@@ -21,6 +30,9 @@ import jakarta.validation.ConstraintViolationException;
 @RestControllerAdvice
 public class GlobalExceptionHandler {
 
+  @Autowired
+  private BusinessMetrics businessMetrics;
+
   @ExceptionHandler(MethodArgumentNotValidException.class)
   public ResponseEntity<BadRequestErrorResponse> handleValidationErrors(MethodArgumentNotValidException ex) {
     List<BadRequestErrorResponse.ValidationError> validationErrors = new ArrayList<>();
@@ -41,6 +53,40 @@ public class GlobalExceptionHandler {
     return ResponseEntity.badRequest().body(response);
   }
 
+  // Raised instead of MethodArgumentNotValidException when a handler has constraint annotations on
+  // its parameters (e.g. @AccountNumber on a path variable); a @Valid request body on the same
+  // handler is then validated in the same pass and reported as ParameterErrors.
+  @ExceptionHandler(HandlerMethodValidationException.class)
+  public ResponseEntity<BadRequestErrorResponse> handleHandlerMethodValidationErrors(HandlerMethodValidationException ex) {
+    List<BadRequestErrorResponse.ValidationError> validationErrors = new ArrayList<>();
+
+    for (ParameterValidationResult result : ex.getParameterValidationResults()) {
+      if (result instanceof ParameterErrors parameterErrors) {
+        for (FieldError fieldError : parameterErrors.getFieldErrors()) {
+          validationErrors.add(new BadRequestErrorResponse.ValidationError(
+              fieldError.getField(), fieldError.getDefaultMessage(), determineValidationType(fieldError)));
+        }
+        continue;
+      }
+
+      String field = result.getMethodParameter().getParameterName();
+      for (MessageSourceResolvable error : result.getResolvableErrors()) {
+        String[] codes = error.getCodes();
+        // The last code is the bare constraint name, e.g. "AccountNumber"
+        String code = codes != null && codes.length > 0 ? codes[codes.length - 1] : null;
+        validationErrors.add(new BadRequestErrorResponse.ValidationError(
+            field, error.getDefaultMessage(), determineValidationType(code)));
+      }
+    }
+
+    BadRequestErrorResponse response = new BadRequestErrorResponse(
+        "Validation failed",
+        validationErrors
+    );
+
+    return ResponseEntity.badRequest().body(response);
+  }
+
   @ExceptionHandler(ConstraintViolationException.class)
   public ResponseEntity<BadRequestErrorResponse> handleConstraintViolationErrors(ConstraintViolationException ex) {
     List<BadRequestErrorResponse.ValidationError> validationErrors = new ArrayList<>();
@@ -89,6 +135,34 @@ public class GlobalExceptionHandler {
     return ResponseEntity.badRequest().body(response);
   }
 
+  @ExceptionHandler(MethodArgumentTypeMismatchException.class)
+  public ResponseEntity<BadRequestErrorResponse> handleMethodArgumentTypeMismatch(MethodArgumentTypeMismatchException ex) {
+    List<BadRequestErrorResponse.ValidationError> validationErrors = new ArrayList<>();
+    validationErrors.add(new BadRequestErrorResponse.ValidationError(ex.getName(), "Invalid value", "format"));
+    return ResponseEntity.badRequest().body(new BadRequestErrorResponse("Validation failed", validationErrors));
+  }
+
+  @ExceptionHandler(MissingServletRequestParameterException.class)
+  public ResponseEntity<BadRequestErrorResponse> handleMissingParameter(MissingServletRequestParameterException ex) {
+    List<BadRequestErrorResponse.ValidationError> validationErrors = new ArrayList<>();
+    validationErrors.add(new BadRequestErrorResponse.ValidationError(ex.getParameterName(), "Parameter is required",
+        "required"));
+    return ResponseEntity.badRequest().body(new BadRequestErrorResponse("Validation failed", validationErrors));
+  }
+
+  @ExceptionHandler(HashingCapacityExceededException.class)
+  public ResponseEntity<ErrorResponse> handleHashingCapacityExceeded(HashingCapacityExceededException ex) {
+    return ResponseEntity.status(ex.getStatus())
+        .header(HttpHeaders.RETRY_AFTER, "1")
+        .body(new ErrorResponse(ex.getMessage()));
+  }
+
+  @ExceptionHandler(DomainException.class)
+  public ResponseEntity<ErrorResponse> handleDomainException(DomainException ex) {
+    businessMetrics.rejected(ex);
+    return ResponseEntity.status(ex.getStatus()).body(new ErrorResponse(ex.getMessage()));
+  }
+
   @ExceptionHandler(IllegalArgumentException.class)
   public ResponseEntity<ErrorResponse> handleIllegalArgumentException(IllegalArgumentException ex) {
     return ResponseEntity.badRequest().body(new ErrorResponse(ex.getMessage()));
@@ -106,7 +180,10 @@ public class GlobalExceptionHandler {
   }
 
   private String determineValidationType(FieldError fieldError) {
-    String code = fieldError.getCode();
+    return determineValidationType(fieldError.getCode());
+  }
+
+  private String determineValidationType(String code) {
     if (code == null) {
       return "validation";
     }
@@ -120,6 +197,12 @@ public class GlobalExceptionHandler {
         return "format";
       case "Pattern":
         return "format";
+      case "AccountNumber":
+        return "format";
+      case "TransactionId":
+        return "format";
+      case "UserId":
+        return "format";
       case "DecimalMin":
         return "range";
       case "DecimalMax":
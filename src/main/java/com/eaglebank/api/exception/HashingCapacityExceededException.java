@@ -0,0 +1,11 @@
+package com.eaglebank.api.exception;
+
+import org.springframework.http.HttpStatus;
+
+// Thrown when the password hashing executor is saturated; mapped to 503 so clients back off
+public class HashingCapacityExceededException extends DomainException {
+
+  public HashingCapacityExceededException() {
+    super(HttpStatus.SERVICE_UNAVAILABLE, "The service is busy, please retry");
+  }
+}
@@ -0,0 +1,10 @@
+package com.eaglebank.api.exception;
+
+import org.springframework.http.HttpStatus;
+
+public class InsufficientFundsException extends DomainException {
+
+  public InsufficientFundsException() {
+    super(HttpStatus.UNPROCESSABLE_ENTITY, "Insufficient funds to process transaction");
+  }
+}
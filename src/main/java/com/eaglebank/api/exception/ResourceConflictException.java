@@ -0,0 +1,10 @@
+package com.eaglebank.api.exception;
+
+import org.springframework.http.HttpStatus;
+
+public class ResourceConflictException extends DomainException {
+
+  public ResourceConflictException(String message) {
+    super(HttpStatus.CONFLICT, message);
+  }
+}
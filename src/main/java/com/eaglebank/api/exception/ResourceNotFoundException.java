@@ -0,0 +1,10 @@
+package com.eaglebank.api.exception;
+
+import org.springframework.http.HttpStatus;
+
+public class ResourceNotFoundException extends DomainException {
+
+  public ResourceNotFoundException(String message) {
+    super(HttpStatus.NOT_FOUND, message);
+  }
+}
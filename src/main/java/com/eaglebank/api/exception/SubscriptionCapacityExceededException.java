@@ -0,0 +1,11 @@
+package com.eaglebank.api.exception;
+
+import org.springframework.http.HttpStatus;
+
+// Thrown when the live event feed already has its maximum number of open connections
+public class SubscriptionCapacityExceededException extends DomainException {
+
+  public SubscriptionCapacityExceededException() {
+    super(HttpStatus.SERVICE_UNAVAILABLE, "Too many live subscriptions, please retry later");
+  }
+}
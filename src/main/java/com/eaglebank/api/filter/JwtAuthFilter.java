@@ -9,7 +9,7 @@ import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
 
-import com.eaglebank.api.model.user.User;
+import com.eaglebank.api.model.user.AuthenticatedUser;
 import com.eaglebank.api.service.jwt.JwtService;
 import com.eaglebank.api.service.user.UserService;
 
@@ -45,12 +45,13 @@ public class JwtAuthFilter extends OncePerRequestFilter {
           String token = authHeader.substring(7);
           try {
               String username = jwtService.validateTokenAndGetUsername(token);
-              User user = userService.getUserByEmail(username);
+              AuthenticatedUser user = userService.getAuthenticatedUser(username);
               
               if (user != null) {
                   UsernamePasswordAuthenticationToken auth =
-                      new UsernamePasswordAuthenticationToken(username, null, List.of());
+                      new UsernamePasswordAuthenticationToken(user, null, List.of());
                   SecurityContextHolder.getContext().setAuthentication(auth);
+                  request.setAttribute(RequestLoggingFilter.PRINCIPAL_ATTRIBUTE, user.getId());
               }
 
           } catch (Exception e) {
@@ -0,0 +1,158 @@
+package com.eaglebank.api.filter;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import com.eaglebank.api.metrics.QueryCounter;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+// Writes one JSON line per request to the eaglebank.requests logger: method, route template, status,
+// latency, SQL statement count (including the ones made while authenticating) and a hash of the
+// caller's user id. Slow requests and server errors are always logged, the rest are sampled.
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class RequestLoggingFilter extends OncePerRequestFilter {
+
+  // Set by JwtAuthFilter; the security context is already cleared by the time this filter logs
+  public static final String PRINCIPAL_ATTRIBUTE = RequestLoggingFilter.class.getName() + ".principal";
+
+  private static final Logger requestLogger = LoggerFactory.getLogger("eaglebank.requests");
+  private static final char[] HEX = "0123456789abcdef".toCharArray();
+
+  // Never used directly: each hash works on a clone, which skips the provider lookup of getInstance.
+  // Nothing is kept per thread, so virtual threads do not each carry their own buffer and digest.
+  private static final MessageDigest SHA_256 = sha256();
+
+  @Autowired private QueryCounter queryCounter;
+
+  private final double sampleRate;
+  private final long slowThresholdNanos;
+
+  public RequestLoggingFilter(
+      @Value("${eaglebank.request-log.sample-rate:0.1}") double sampleRate,
+      @Value("${eaglebank.request-log.slow-threshold:500ms}") Duration slowThreshold) {
+    this.sampleRate = sampleRate;
+    this.slowThresholdNanos = slowThreshold.toNanos();
+  }
+
+  @Override
+  protected void doFilterInternal(
+      HttpServletRequest request,
+      HttpServletResponse response,
+      FilterChain filterChain)
+      throws ServletException, IOException {
+    long startedAt = System.nanoTime();
+    queryCounter.start();
+    boolean failed = true;
+    try {
+      filterChain.doFilter(request, response);
+      failed = false;
+    } finally {
+      int queries = queryCounter.stop();
+      long latencyNanos = System.nanoTime() - startedAt;
+      // An exception escaping the chain is turned into a 500 by the container, after this filter
+      // has returned, so the response still shows whatever status was set before it was thrown
+      int status = failed ? HttpServletResponse.SC_INTERNAL_SERVER_ERROR : response.getStatus();
+      if (requestLogger.isInfoEnabled() && shouldLog(latencyNanos, status)) {
+        requestLogger.info(format(request, status, latencyNanos, queries));
+      }
+    }
+  }
+
+  private boolean shouldLog(long latencyNanos, int status) {
+    return latencyNanos >= slowThresholdNanos
+        || status >= 500
+        || ThreadLocalRandom.current().nextDouble() < sampleRate;
+  }
+
+  private String format(HttpServletRequest request, int status, long latencyNanos, int queries) {
+    StringBuilder json = new StringBuilder(256);
+    json.append("{\"ts\":").append(System.currentTimeMillis());
+    json.append(",\"method\":\"").append(request.getMethod()).append('"');
+    // The template rather than the raw path, so account numbers and ids never reach the log
+    Object route = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+    json.append(",\"route\":");
+    appendString(json, route != null ? route.toString() : null);
+    json.append(",\"status\":").append(status);
+    json.append(",\"latencyMs\":").append(latencyNanos / 1_000_000).append('.');
+    long micros = latencyNanos / 1_000 % 1_000;
+    if (micros < 100) {
+      json.append(micros < 10 ? "00" : "0");
+    }
+    json.append(micros);
+    json.append(",\"queries\":").append(queries);
+    json.append(",\"principal\":");
+    Object principal = request.getAttribute(PRINCIPAL_ATTRIBUTE);
+    if (principal != null) {
+      json.append('"');
+      appendPrincipalHash(json, principal.toString());
+      json.append('"');
+    } else {
+      json.append("null");
+    }
+    json.append('}');
+    return json.toString();
+  }
+
+  private static void appendString(StringBuilder json, String value) {
+    if (value == null) {
+      json.append("null");
+      return;
+    }
+    json.append('"');
+    for (int i = 0; i < value.length(); i++) {
+      char c = value.charAt(i);
+      if (c == '"' || c == '\\') {
+        json.append('\\').append(c);
+      } else if (c < 0x20) {
+        json.append("\\u00").append(HEX[c >> 4]).append(HEX[c & 0xF]);
+      } else {
+        json.append(c);
+      }
+    }
+    json.append('"');
+  }
+
+  // First 8 bytes of SHA-256 as hex: stable across instances, so one caller's requests can be
+  // grouped without the log holding their user id
+  private static void appendPrincipalHash(StringBuilder json, String principal) {
+    byte[] hash = newDigest().digest(principal.getBytes(StandardCharsets.UTF_8));
+    for (int i = 0; i < 8; i++) {
+      json.append(HEX[(hash[i] >> 4) & 0xF]).append(HEX[hash[i] & 0xF]);
+    }
+  }
+
+  private static MessageDigest newDigest() {
+    try {
+      return (MessageDigest) SHA_256.clone();
+    } catch (CloneNotSupportedException e) {
+      return sha256();
+    }
+  }
+
+  private static MessageDigest sha256() {
+    try {
+      return MessageDigest.getInstance("SHA-256");
+    } catch (NoSuchAlgorithmException e) {
+      throw new IllegalStateException(e);
+    }
+  }
+}
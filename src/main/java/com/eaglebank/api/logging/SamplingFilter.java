@@ -0,0 +1,34 @@
+package com.eaglebank.api.logging;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.filter.Filter;
+import ch.qos.logback.core.spi.FilterReply;
+
+// Lets through at most maxPerSecond events per one-second window and drops the rest, so a burst of
+// slow queries under load is sampled instead of flooding the appender. Configured in logback-spring.xml.
+public class SamplingFilter extends Filter<ILoggingEvent> {
+
+  private int maxPerSecond = 10;
+
+  // Current window start in seconds in the high bits, events seen in that window in the low 20 bits
+  private final AtomicLong window = new AtomicLong();
+
+  public void setMaxPerSecond(int maxPerSecond) {
+    this.maxPerSecond = maxPerSecond;
+  }
+
+  @Override
+  public FilterReply decide(ILoggingEvent event) {
+    if (!isStarted()) {
+      return FilterReply.NEUTRAL;
+    }
+    long second = event.getTimeStamp() / 1000;
+    long state = window.updateAndGet(current -> {
+      long count = current & 0xFFFFF;
+      return (current >>> 20) == second ? current + (count < 0xFFFFF ? 1 : 0) : (second << 20) | 1;
+    });
+    return (state & 0xFFFFF) <= maxPerSecond ? FilterReply.NEUTRAL : FilterReply.DENY;
+  }
+}
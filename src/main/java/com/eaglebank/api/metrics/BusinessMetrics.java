@@ -0,0 +1,42 @@
+package com.eaglebank.api.metrics;
+
+import org.springframework.stereotype.Component;
+
+import com.eaglebank.api.exception.DomainException;
+import com.eaglebank.api.model.transaction.TransactionType;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+// Counters for what happened to requests in business terms, alongside the HTTP-level timers.
+// Rejections are tagged by outcome, e.g. InsufficientFunds or AccessForbidden.
+@Component
+public class BusinessMetrics {
+
+  private final MeterRegistry meterRegistry;
+  private final Counter deposits;
+  private final Counter withdrawals;
+
+  public BusinessMetrics(MeterRegistry meterRegistry) {
+    this.meterRegistry = meterRegistry;
+    this.deposits = Counter.builder("eaglebank.transactions.created")
+        .tag("type", TransactionType.deposit.name())
+        .register(meterRegistry);
+    this.withdrawals = Counter.builder("eaglebank.transactions.created")
+        .tag("type", TransactionType.withdrawal.name())
+        .register(meterRegistry);
+  }
+
+  public void transactionCreated(TransactionType type) {
+    (type == TransactionType.deposit ? deposits : withdrawals).increment();
+  }
+
+  public void rejected(DomainException exception) {
+    rejected(exception.getClass());
+  }
+
+  public void rejected(Class<? extends DomainException> exceptionType) {
+    String outcome = exceptionType.getSimpleName().replace("Exception", "");
+    meterRegistry.counter("eaglebank.business.rejections", "outcome", outcome).increment();
+  }
+}
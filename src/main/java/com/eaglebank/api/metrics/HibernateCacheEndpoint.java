@@ -0,0 +1,70 @@
+package com.eaglebank.api.metrics;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.stereotype.Component;
+
+import jakarta.persistence.EntityManagerFactory;
+
+// Exposes second-level and query cache hit rates per region at /actuator/hibernatecache
+@Component
+@Endpoint(id = "hibernatecache")
+public class HibernateCacheEndpoint {
+
+  private static final List<String> QUERY_REGIONS = List.of("user-by-email", "accounts-by-user-email");
+
+  @Autowired
+  private EntityManagerFactory entityManagerFactory;
+
+  @ReadOperation
+  public Map<String, Object> cacheStatistics() {
+    Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+
+    // Named query regions are created on first use, so they are looked up explicitly as well
+    Set<String> regionNames = new TreeSet<>(Arrays.asList(statistics.getSecondLevelCacheRegionNames()));
+    regionNames.addAll(QUERY_REGIONS);
+
+    Map<String, Object> regions = new LinkedHashMap<>();
+    for (String regionName : regionNames) {
+      CacheRegionStatistics region = statistics.getCacheRegionStatistics(regionName);
+      if (region != null) {
+        regions.put(regionName, regionStatistics(region));
+      }
+    }
+
+    Map<String, Object> queryCache = new LinkedHashMap<>();
+    queryCache.put("hits", statistics.getQueryCacheHitCount());
+    queryCache.put("misses", statistics.getQueryCacheMissCount());
+    queryCache.put("puts", statistics.getQueryCachePutCount());
+
+    Map<String, Object> response = new LinkedHashMap<>();
+    response.put("statisticsEnabled", statistics.isStatisticsEnabled());
+    response.put("regions", regions);
+    response.put("queryCache", queryCache);
+    return response;
+  }
+
+  private static Map<String, Object> regionStatistics(CacheRegionStatistics region) {
+    long hits = region.getHitCount();
+    long misses = region.getMissCount();
+
+    Map<String, Object> values = new LinkedHashMap<>();
+    values.put("hits", hits);
+    values.put("misses", misses);
+    values.put("puts", region.getPutCount());
+    values.put("hitRatio", hits + misses == 0 ? 0.0 : (double) hits / (hits + misses));
+    values.put("elementsInMemory", region.getElementCountInMemory());
+    return values;
+  }
+}
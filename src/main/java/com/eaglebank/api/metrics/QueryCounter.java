@@ -0,0 +1,36 @@
+package com.eaglebank.api.metrics;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.springframework.stereotype.Component;
+
+// Counts the SQL statements Hibernate prepares on the current thread between start() and stop().
+// Statements on threads that never called start(), such as scheduled jobs, are not counted.
+@Component
+public class QueryCounter implements StatementInspector {
+
+  private final ThreadLocal<int[]> counts = new ThreadLocal<>();
+
+  public void start() {
+    counts.set(new int[1]);
+  }
+
+  public int count() {
+    int[] count = counts.get();
+    return count != null ? count[0] : 0;
+  }
+
+  public int stop() {
+    int count = count();
+    counts.remove();
+    return count;
+  }
+
+  @Override
+  public String inspect(String sql) {
+    int[] count = counts.get();
+    if (count != null) {
+      count[0]++;
+    }
+    return sql;
+  }
+}
@@ -3,10 +3,15 @@ package com.eaglebank.api.model.account;
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
 
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+
+import jakarta.persistence.Cacheable;
 import jakarta.persistence.Entity;
 import jakarta.persistence.EnumType;
 import jakarta.persistence.Enumerated;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.PrePersist;
 import jakarta.persistence.PreUpdate;
 import jakarta.persistence.Table;
@@ -17,9 +22,15 @@ import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Pattern;
 
 @Entity
-@Table(name = "bank_accounts")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "bank-accounts")
+@Table(name = "bank_accounts", indexes = {
+    @Index(name = "idx_bank_accounts_user_email", columnList = "user_email")
+})
 public class BankAccount {
 
+  public static final String MAX_BALANCE = "10000.00";
+
   @Id
   @Pattern(regexp = "^01\\d{6}$")
   private String accountNumber;
@@ -35,7 +46,7 @@ public class BankAccount {
   private BankAccountType accountType;
 
   @DecimalMin(value = "0.00")
-  @DecimalMax(value = "10000.00")
+  @DecimalMax(value = MAX_BALANCE)
   @NotNull
   private BigDecimal balance = BigDecimal.ZERO;
 
@@ -45,6 +56,9 @@ public class BankAccount {
   @NotBlank
   private String userEmail;
 
+  // Sequence number of the most recent journal entry (transaction) on this account
+  private long lastSequenceNumber;
+
   private LocalDateTime createdTimestamp;
 
   private LocalDateTime updatedTimestamp;
@@ -62,6 +76,20 @@ public class BankAccount {
     this.sortCode = "10-10-10";
   }
 
+  // Detached copy, used to hand out account state that later changes to this entity cannot affect
+  public BankAccount(BankAccount other) {
+    this.accountNumber = other.accountNumber;
+    this.sortCode = other.sortCode;
+    this.name = other.name;
+    this.accountType = other.accountType;
+    this.balance = other.balance;
+    this.currency = other.currency;
+    this.userEmail = other.userEmail;
+    this.lastSequenceNumber = other.lastSequenceNumber;
+    this.createdTimestamp = other.createdTimestamp;
+    this.updatedTimestamp = other.updatedTimestamp;
+  }
+
   @PrePersist
   protected void onCreate() {
     createdTimestamp = LocalDateTime.now();
@@ -129,6 +157,14 @@ public class BankAccount {
     this.userEmail = userEmail;
   }
 
+  public long getLastSequenceNumber() {
+    return lastSequenceNumber;
+  }
+
+  public void setLastSequenceNumber(long lastSequenceNumber) {
+    this.lastSequenceNumber = lastSequenceNumber;
+  }
+
   public LocalDateTime getCreatedTimestamp() {
     return createdTimestamp;
   }
@@ -0,0 +1,95 @@
+package com.eaglebank.api.model.importer;
+
+import java.time.LocalDateTime;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.PrePersist;
+import jakarta.persistence.PreUpdate;
+import jakarta.persistence.Table;
+
+@Entity
+@Table(name = "import_checkpoints")
+public class ImportCheckpoint {
+
+  // Name of the import, by default the file name
+  @Id
+  private String id;
+
+  // Lines of the source file, header included, whose rows have been committed or rejected
+  private long linesProcessed;
+
+  private long importedCount;
+
+  private long rejectedCount;
+
+  private LocalDateTime createdTimestamp;
+
+  private LocalDateTime updatedTimestamp;
+
+  public ImportCheckpoint() {
+  }
+
+  public ImportCheckpoint(String id) {
+    this.id = id;
+  }
+
+  @PrePersist
+  protected void onCreate() {
+    createdTimestamp = LocalDateTime.now();
+    updatedTimestamp = createdTimestamp;
+  }
+
+  @PreUpdate
+  protected void onUpdate() {
+    updatedTimestamp = LocalDateTime.now();
+  }
+
+  public String getId() {
+    return id;
+  }
+
+  public void setId(String id) {
+    this.id = id;
+  }
+
+  public long getLinesProcessed() {
+    return linesProcessed;
+  }
+
+  public void setLinesProcessed(long linesProcessed) {
+    this.linesProcessed = linesProcessed;
+  }
+
+  public long getImportedCount() {
+    return importedCount;
+  }
+
+  public void setImportedCount(long importedCount) {
+    this.importedCount = importedCount;
+  }
+
+  public long getRejectedCount() {
+    return rejectedCount;
+  }
+
+  public void setRejectedCount(long rejectedCount) {
+    this.rejectedCount = rejectedCount;
+  }
+
+  public LocalDateTime getCreatedTimestamp() {
+    return createdTimestamp;
+  }
+
+  public void setCreatedTimestamp(LocalDateTime createdTimestamp) {
+    this.createdTimestamp = createdTimestamp;
+  }
+
+  public LocalDateTime getUpdatedTimestamp() {
+    return updatedTimestamp;
+  }
+
+  public void setUpdatedTimestamp(LocalDateTime updatedTimestamp) {
+    this.updatedTimestamp = updatedTimestamp;
+  }
+}
@@ -0,0 +1,100 @@
+package com.eaglebank.api.model.ledger;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.PrePersist;
+import jakarta.persistence.Table;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Pattern;
+
+@Entity
+@Table(name = "balance_snapshots", indexes = {
+    @Index(name = "uk_balance_snapshots_account_sequence", columnList = "account_number, sequence_number", unique = true)
+})
+public class BalanceSnapshot {
+
+  @Id
+  private String id;
+
+  @Pattern(regexp = "^01\\d{6}$")
+  @NotBlank
+  private String accountNumber;
+
+  @NotNull
+  private Long sequenceNumber;
+
+  @NotNull
+  private BigDecimal balance;
+
+  private LocalDateTime createdTimestamp;
+
+  private LocalDateTime verifiedTimestamp;
+
+  public BalanceSnapshot() {
+  }
+
+  public BalanceSnapshot(String accountNumber, Long sequenceNumber, BigDecimal balance) {
+    this.id = accountNumber + "-" + sequenceNumber;
+    this.accountNumber = accountNumber;
+    this.sequenceNumber = sequenceNumber;
+    this.balance = balance;
+  }
+
+  @PrePersist
+  protected void onCreate() {
+    createdTimestamp = LocalDateTime.now();
+  }
+
+  public String getId() {
+    return id;
+  }
+
+  public void setId(String id) {
+    this.id = id;
+  }
+
+  public String getAccountNumber() {
+    return accountNumber;
+  }
+
+  public void setAccountNumber(String accountNumber) {
+    this.accountNumber = accountNumber;
+  }
+
+  public Long getSequenceNumber() {
+    return sequenceNumber;
+  }
+
+  public void setSequenceNumber(Long sequenceNumber) {
+    this.sequenceNumber = sequenceNumber;
+  }
+
+  public BigDecimal getBalance() {
+    return balance;
+  }
+
+  public void setBalance(BigDecimal balance) {
+    this.balance = balance;
+  }
+
+  public LocalDateTime getCreatedTimestamp() {
+    return createdTimestamp;
+  }
+
+  public void setCreatedTimestamp(LocalDateTime createdTimestamp) {
+    this.createdTimestamp = createdTimestamp;
+  }
+
+  public LocalDateTime getVerifiedTimestamp() {
+    return verifiedTimestamp;
+  }
+
+  public void setVerifiedTimestamp(LocalDateTime verifiedTimestamp) {
+    this.verifiedTimestamp = verifiedTimestamp;
+  }
+}
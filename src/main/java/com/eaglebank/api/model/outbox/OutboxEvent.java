@@ -0,0 +1,113 @@
+package com.eaglebank.api.model.outbox;
+
+import java.time.LocalDateTime;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.PrePersist;
+import jakarta.persistence.SequenceGenerator;
+import jakarta.persistence.Table;
+import jakarta.validation.constraints.NotBlank;
+
+@Entity
+@Table(name = "outbox_events", indexes = {
+    @Index(name = "idx_outbox_events_next_attempt", columnList = "next_attempt_timestamp, id")
+})
+public class OutboxEvent {
+
+  // Pooled sequence rather than identity, so outbox rows join the JDBC insert batches of a batch request
+  @Id
+  @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "outbox_event_seq")
+  @SequenceGenerator(name = "outbox_event_seq", sequenceName = "outbox_event_seq", allocationSize = 50)
+  private Long id;
+
+  @NotBlank
+  private String eventType;
+
+  @NotBlank
+  private String aggregateId;
+
+  // JSON document, passed to sinks as-is
+  @NotBlank
+  private String payload;
+
+  private LocalDateTime createdTimestamp;
+
+  private int attempts;
+
+  private LocalDateTime nextAttemptTimestamp;
+
+  public OutboxEvent() {
+  }
+
+  public OutboxEvent(String eventType, String aggregateId, String payload) {
+    this.eventType = eventType;
+    this.aggregateId = aggregateId;
+    this.payload = payload;
+  }
+
+  @PrePersist
+  protected void onCreate() {
+    createdTimestamp = LocalDateTime.now();
+    nextAttemptTimestamp = createdTimestamp;
+  }
+
+  public Long getId() {
+    return id;
+  }
+
+  public void setId(Long id) {
+    this.id = id;
+  }
+
+  public String getEventType() {
+    return eventType;
+  }
+
+  public void setEventType(String eventType) {
+    this.eventType = eventType;
+  }
+
+  public String getAggregateId() {
+    return aggregateId;
+  }
+
+  public void setAggregateId(String aggregateId) {
+    this.aggregateId = aggregateId;
+  }
+
+  public String getPayload() {
+    return payload;
+  }
+
+  public void setPayload(String payload) {
+    this.payload = payload;
+  }
+
+  public LocalDateTime getCreatedTimestamp() {
+    return createdTimestamp;
+  }
+
+  public void setCreatedTimestamp(LocalDateTime createdTimestamp) {
+    this.createdTimestamp = createdTimestamp;
+  }
+
+  public int getAttempts() {
+    return attempts;
+  }
+
+  public void setAttempts(int attempts) {
+    this.attempts = attempts;
+  }
+
+  public LocalDateTime getNextAttemptTimestamp() {
+    return nextAttemptTimestamp;
+  }
+
+  public void setNextAttemptTimestamp(LocalDateTime nextAttemptTimestamp) {
+    this.nextAttemptTimestamp = nextAttemptTimestamp;
+  }
+}
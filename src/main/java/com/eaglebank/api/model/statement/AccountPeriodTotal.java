@@ -0,0 +1,122 @@
+package com.eaglebank.api.model.statement;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Pattern;
+
+@Entity
+@Table(name = "account_period_totals", indexes = {
+    @Index(name = "uk_account_period_totals_period", columnList = "account_number, period_type, period_start", unique = true)
+})
+public class AccountPeriodTotal {
+
+  @Id
+  private String id;
+
+  @Pattern(regexp = "^01\\d{6}$")
+  @NotBlank
+  private String accountNumber;
+
+  @Enumerated(EnumType.STRING)
+  @NotNull
+  private StatementPeriod periodType;
+
+  // First day of the bucket: the day itself, or the first of the month
+  @NotNull
+  private LocalDate periodStart;
+
+  private BigDecimal depositTotal = BigDecimal.ZERO;
+
+  private long depositCount;
+
+  private BigDecimal withdrawalTotal = BigDecimal.ZERO;
+
+  private long withdrawalCount;
+
+  public AccountPeriodTotal() {
+  }
+
+  public AccountPeriodTotal(String accountNumber, StatementPeriod periodType, LocalDate periodStart) {
+    this.id = id(accountNumber, periodType, periodStart);
+    this.accountNumber = accountNumber;
+    this.periodType = periodType;
+    this.periodStart = periodStart;
+  }
+
+  public static String id(String accountNumber, StatementPeriod periodType, LocalDate periodStart) {
+    return accountNumber + "-" + periodType + "-" + periodStart;
+  }
+
+  public String getId() {
+    return id;
+  }
+
+  public void setId(String id) {
+    this.id = id;
+  }
+
+  public String getAccountNumber() {
+    return accountNumber;
+  }
+
+  public void setAccountNumber(String accountNumber) {
+    this.accountNumber = accountNumber;
+  }
+
+  public StatementPeriod getPeriodType() {
+    return periodType;
+  }
+
+  public void setPeriodType(StatementPeriod periodType) {
+    this.periodType = periodType;
+  }
+
+  public LocalDate getPeriodStart() {
+    return periodStart;
+  }
+
+  public void setPeriodStart(LocalDate periodStart) {
+    this.periodStart = periodStart;
+  }
+
+  public BigDecimal getDepositTotal() {
+    return depositTotal;
+  }
+
+  public void setDepositTotal(BigDecimal depositTotal) {
+    this.depositTotal = depositTotal;
+  }
+
+  public long getDepositCount() {
+    return depositCount;
+  }
+
+  public void setDepositCount(long depositCount) {
+    this.depositCount = depositCount;
+  }
+
+  public BigDecimal getWithdrawalTotal() {
+    return withdrawalTotal;
+  }
+
+  public void setWithdrawalTotal(BigDecimal withdrawalTotal) {
+    this.withdrawalTotal = withdrawalTotal;
+  }
+
+  public long getWithdrawalCount() {
+    return withdrawalCount;
+  }
+
+  public void setWithdrawalCount(long withdrawalCount) {
+    this.withdrawalCount = withdrawalCount;
+  }
+}
@@ -0,0 +1,12 @@
+package com.eaglebank.api.model.statement;
+
+import java.time.LocalDate;
+
+public enum StatementPeriod {
+  DAY,
+  MONTH;
+
+  public LocalDate periodStart(LocalDate date) {
+    return this == DAY ? date : date.withDayOfMonth(1);
+  }
+}
@@ -3,10 +3,16 @@ package com.eaglebank.api.model.transaction;
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
 
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.Immutable;
+
+import jakarta.persistence.Cacheable;
 import jakarta.persistence.Entity;
 import jakarta.persistence.EnumType;
 import jakarta.persistence.Enumerated;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.PrePersist;
 import jakarta.persistence.Table;
 import jakarta.validation.constraints.DecimalMax;
@@ -15,8 +21,15 @@ import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Pattern;
 
+// Journal entries are never changed once written, so they are mapped immutable and cached read-only
 @Entity
-@Table(name = "transactions")
+@Immutable
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_ONLY, region = "transactions")
+@Table(name = "transactions", indexes = {
+    @Index(name = "idx_transactions_account_created", columnList = "account_number, created_timestamp DESC, id DESC"),
+    @Index(name = "uk_transactions_account_sequence", columnList = "account_number, sequence_number", unique = true)
+})
 public class Transaction {
 
   @Id
@@ -45,6 +58,12 @@ public class Transaction {
   @NotBlank
   private String accountNumber;
 
+  // Position in the account journal, starting at 1
+  private Long sequenceNumber;
+
+  // Account balance immediately after this transaction was applied
+  private BigDecimal balanceAfter;
+
   private LocalDateTime createdTimestamp;
 
   public Transaction() {
@@ -122,6 +141,22 @@ public class Transaction {
     this.accountNumber = accountNumber;
   }
 
+  public Long getSequenceNumber() {
+    return sequenceNumber;
+  }
+
+  public void setSequenceNumber(Long sequenceNumber) {
+    this.sequenceNumber = sequenceNumber;
+  }
+
+  public BigDecimal getBalanceAfter() {
+    return balanceAfter;
+  }
+
+  public void setBalanceAfter(BigDecimal balanceAfter) {
+    this.balanceAfter = balanceAfter;
+  }
+
   public LocalDateTime getCreatedTimestamp() {
     return createdTimestamp;
   }
@@ -0,0 +1,32 @@
+package com.eaglebank.api.model.user;
+
+import org.springframework.security.core.AuthenticatedPrincipal;
+
+public class AuthenticatedUser implements AuthenticatedPrincipal {
+
+  private final String id;
+  private final String email;
+
+  public AuthenticatedUser(String id, String email) {
+    this.id = id;
+    this.email = email;
+  }
+
+  public AuthenticatedUser(User user) {
+    this(user.getId(), user.getEmail());
+  }
+
+  public String getId() {
+    return id;
+  }
+
+  public String getEmail() {
+    return email;
+  }
+
+  // Authentication.getName() resolves to the email, as it did when the principal was a plain string
+  @Override
+  public String getName() {
+    return email;
+  }
+}
@@ -0,0 +1,32 @@
+package com.eaglebank.api.repository;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import com.eaglebank.api.model.statement.AccountPeriodTotal;
+import com.eaglebank.api.model.statement.StatementPeriod;
+
+public interface AccountPeriodTotalRepository extends JpaRepository<AccountPeriodTotal, String> {
+
+  List<AccountPeriodTotal> findByAccountNumberAndPeriodTypeAndPeriodStartBetweenOrderByPeriodStartAsc(
+      String accountNumber, StatementPeriod periodType, LocalDate from, LocalDate to);
+
+  @Modifying
+  @Query("UPDATE AccountPeriodTotal t SET t.depositTotal = t.depositTotal + :depositTotal,"
+      + " t.depositCount = t.depositCount + :depositCount,"
+      + " t.withdrawalTotal = t.withdrawalTotal + :withdrawalTotal,"
+      + " t.withdrawalCount = t.withdrawalCount + :withdrawalCount"
+      + " WHERE t.id = :id")
+  int addToTotals(
+      @Param("id") String id,
+      @Param("depositTotal") BigDecimal depositTotal,
+      @Param("depositCount") long depositCount,
+      @Param("withdrawalTotal") BigDecimal withdrawalTotal,
+      @Param("withdrawalCount") long withdrawalCount);
+}
@@ -0,0 +1,28 @@
+package com.eaglebank.api.repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import com.eaglebank.api.model.ledger.BalanceSnapshot;
+
+public interface BalanceSnapshotRepository extends JpaRepository<BalanceSnapshot, String> {
+
+  Optional<BalanceSnapshot> findFirstByAccountNumberAndVerifiedTimestampIsNotNullOrderBySequenceNumberDesc(String accountNumber);
+
+  List<BalanceSnapshot> findByAccountNumberAndSequenceNumberGreaterThanOrderBySequenceNumberAsc(String accountNumber, Long sequenceNumber);
+
+  @Modifying
+  @Query("UPDATE BalanceSnapshot s SET s.verifiedTimestamp = :verifiedTimestamp"
+      + " WHERE s.accountNumber = :accountNumber AND s.sequenceNumber <= :sequenceNumber"
+      + " AND s.verifiedTimestamp IS NULL")
+  int markVerified(
+      @Param("accountNumber") String accountNumber,
+      @Param("sequenceNumber") Long sequenceNumber,
+      @Param("verifiedTimestamp") LocalDateTime verifiedTimestamp);
+}
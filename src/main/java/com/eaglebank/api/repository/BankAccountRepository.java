@@ -1,15 +1,24 @@
 package com.eaglebank.api.repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 
 import com.eaglebank.api.model.account.BankAccount;
 
+import jakarta.persistence.QueryHint;
+
 public interface BankAccountRepository extends JpaRepository<BankAccount, String> {
 
+  @QueryHints({
+      @QueryHint(name = "org.hibernate.cacheable", value = "true"),
+      @QueryHint(name = "org.hibernate.cacheRegion", value = "accounts-by-user-email")
+  })
   List<BankAccount> findByUserEmail(String email);
   
   boolean existsByUserEmail(String email);
@@ -18,6 +27,12 @@ public interface BankAccountRepository extends JpaRepository<BankAccount, String
   
   Optional<BankAccount> findByAccountNumberAndUserEmail(String accountNumber, String userEmail);
   
-  @Query("SELECT MAX(b.accountNumber) FROM BankAccount b")
-  String findMaxAccountNumber();
+  @Query("SELECT b.accountNumber FROM BankAccount b WHERE b.updatedTimestamp > :since")
+  List<String> findAccountNumbersUpdatedSince(@Param("since") LocalDateTime since);
+  
+  @Query("SELECT b.accountNumber FROM BankAccount b")
+  List<String> findAllAccountNumbers();
+
+  @Query(value = "SELECT NEXT VALUE FOR account_number_seq", nativeQuery = true)
+  long nextAccountNumberBlock();
 }
@@ -0,0 +1,8 @@
+package com.eaglebank.api.repository;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import com.eaglebank.api.model.importer.ImportCheckpoint;
+
+public interface ImportCheckpointRepository extends JpaRepository<ImportCheckpoint, String> {
+}
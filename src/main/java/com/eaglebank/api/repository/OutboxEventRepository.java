@@ -0,0 +1,24 @@
+package com.eaglebank.api.repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import com.eaglebank.api.model.outbox.OutboxEvent;
+
+public interface OutboxEventRepository extends JpaRepository<OutboxEvent, Long> {
+
+  @Query("SELECT e FROM OutboxEvent e WHERE e.nextAttemptTimestamp <= :now ORDER BY e.id")
+  List<OutboxEvent> findDue(@Param("now") LocalDateTime now, Pageable pageable);
+
+  @Modifying
+  @Query("UPDATE OutboxEvent e SET e.attempts = e.attempts + 1, e.nextAttemptTimestamp = :nextAttempt"
+      + " WHERE e.id IN :ids")
+  int scheduleRetry(@Param("ids") Collection<Long> ids, @Param("nextAttempt") LocalDateTime nextAttempt);
+}
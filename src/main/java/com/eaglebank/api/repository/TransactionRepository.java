@@ -1,17 +1,56 @@
 package com.eaglebank.api.repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 
 import com.eaglebank.api.model.transaction.Transaction;
 
+import jakarta.persistence.QueryHint;
+
 public interface TransactionRepository extends JpaRepository<Transaction, String> {
 
-  List<Transaction> findByAccountNumberOrderByCreatedTimestampDesc(String accountNumber);
+  List<Transaction> findByAccountNumberOrderByCreatedTimestampDescIdDesc(String accountNumber);
+
+  List<Transaction> findByAccountNumberOrderByCreatedTimestampDescIdDesc(String accountNumber, Pageable pageable);
+
+  // Keyset page: rows strictly after the (createdTimestamp, id) cursor in descending order
+  @Query("SELECT t FROM Transaction t WHERE t.accountNumber = :accountNumber"
+      + " AND (t.createdTimestamp < :createdTimestamp"
+      + " OR (t.createdTimestamp = :createdTimestamp AND t.id < :id))"
+      + " ORDER BY t.createdTimestamp DESC, t.id DESC")
+  List<Transaction> findPageAfter(
+      @Param("accountNumber") String accountNumber,
+      @Param("createdTimestamp") LocalDateTime createdTimestamp,
+      @Param("id") String id,
+      Pageable pageable);
+
+  @QueryHints(@QueryHint(name = "org.hibernate.fetchSize", value = "500"))
+  @Query("SELECT t FROM Transaction t WHERE t.accountNumber = :accountNumber"
+      + " ORDER BY t.createdTimestamp DESC, t.id DESC")
+  Stream<Transaction> streamByAccountNumber(@Param("accountNumber") String accountNumber);
   
+  // Point-in-time lookup: the latest journal entry at or before the given time
+  Optional<Transaction> findFirstByAccountNumberAndCreatedTimestampLessThanEqualOrderByCreatedTimestampDescSequenceNumberDesc(
+      String accountNumber, LocalDateTime createdTimestamp);
+
+  List<Transaction> findByAccountNumberAndSequenceNumberBetweenOrderBySequenceNumberAsc(
+      String accountNumber, Long fromSequence, Long toSequence, Pageable pageable);
+  
+  // [accountNumber, latest createdTimestamp] for each of the given accounts that has transactions
+  @Query("SELECT t.accountNumber, MAX(t.createdTimestamp) FROM Transaction t"
+      + " WHERE t.accountNumber IN :accountNumbers GROUP BY t.accountNumber")
+  List<Object[]> findLatestTimestamps(@Param("accountNumbers") Collection<String> accountNumbers);
+
   Optional<Transaction> findByIdAndAccountNumber(String id, String accountNumber);
   
   boolean existsByAccountNumber(String accountNumber);
-}
\ No newline at end of file
+}
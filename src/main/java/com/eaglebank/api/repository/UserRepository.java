@@ -3,11 +3,18 @@ package com.eaglebank.api.repository;
 import java.util.Optional;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.QueryHints;
 
 import com.eaglebank.api.model.user.User;
 
+import jakarta.persistence.QueryHint;
+
 public interface UserRepository extends JpaRepository<User, String> {
 
+  @QueryHints({
+      @QueryHint(name = "org.hibernate.cacheable", value = "true"),
+      @QueryHint(name = "org.hibernate.cacheRegion", value = "user-by-email")
+  })
   Optional<User> findByEmail(String email);
   
   boolean existsByEmail(String email);
@@ -0,0 +1,57 @@
+package com.eaglebank.api.service.account;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import com.eaglebank.api.exception.AccessForbiddenException;
+import com.eaglebank.api.exception.ResourceNotFoundException;
+import com.eaglebank.api.model.account.BankAccount;
+import com.eaglebank.api.model.user.AuthenticatedUser;
+import com.eaglebank.api.repository.BankAccountRepository;
+import com.eaglebank.api.service.user.PrincipalCache;
+
+// Shared ownership check for account and transaction operations. The account is loaded once
+// by primary key and found / owned is decided in memory, rather than a filtered lookup followed
+// by an exists query on a miss.
+@Component
+public class AccountAccessResolver {
+
+  @Autowired private BankAccountRepository bankAccountRepository;
+  @Autowired private PrincipalCache principalCache;
+  @Autowired private AccountCache accountCache;
+
+  // For writers: always reads the database, so the caller gets a managed entity to update
+  public BankAccount resolve(String accountNumber, String userEmail) {
+    BankAccount account = bankAccountRepository.findById(accountNumber)
+        .orElseThrow(() -> new ResourceNotFoundException("Bank account was not found"));
+    return checkOwner(account, userEmail);
+  }
+
+  // For readers: may return a cached, read-only copy of the account
+  public BankAccount resolveForRead(String accountNumber, String userEmail) {
+    BankAccount account = accountCache.getAccount(accountNumber);
+    if (account == null) {
+      // Missing accounts are not cached, so a new account is visible as soon as it is committed
+      account = bankAccountRepository.findById(accountNumber)
+          .orElseThrow(() -> new ResourceNotFoundException("Bank account was not found"));
+      accountCache.putAccountIfAbsent(account);
+    }
+    return checkOwner(account, userEmail);
+  }
+
+  private BankAccount checkOwner(BankAccount account, String userEmail) {
+    if (!account.getUserEmail().equals(userEmail)) {
+      throw new AccessForbiddenException("The user is not allowed to access the bank account");
+    }
+    return account;
+  }
+
+  public String resolveUserId(String userEmail) {
+    // Served from the principal cache the auth filter already populated for this user
+    AuthenticatedUser user = principalCache.get(userEmail);
+    if (user == null) {
+      throw new ResourceNotFoundException("User not found");
+    }
+    return user.getId();
+  }
+}
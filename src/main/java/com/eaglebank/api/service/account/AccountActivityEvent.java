@@ -0,0 +1,31 @@
+package com.eaglebank.api.service.account;
+
+import com.eaglebank.api.dto.account.BalanceResponse;
+import com.eaglebank.api.dto.transaction.TransactionResponse;
+
+// Published inside the database transaction that created a transaction, delivered to
+// subscribers only once that transaction has committed
+public class AccountActivityEvent {
+
+  private final String accountNumber;
+  private final TransactionResponse transaction;
+  private final BalanceResponse balance;
+
+  public AccountActivityEvent(String accountNumber, TransactionResponse transaction, BalanceResponse balance) {
+    this.accountNumber = accountNumber;
+    this.transaction = transaction;
+    this.balance = balance;
+  }
+
+  public String getAccountNumber() {
+    return accountNumber;
+  }
+
+  public TransactionResponse getTransaction() {
+    return transaction;
+  }
+
+  public BalanceResponse getBalance() {
+    return balance;
+  }
+}
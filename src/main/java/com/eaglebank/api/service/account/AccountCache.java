@@ -0,0 +1,31 @@
+package com.eaglebank.api.service.account;
+
+import java.util.List;
+
+import com.eaglebank.api.model.account.BankAccount;
+
+// Cache of account state for the read paths. Implementations only store and evict; keeping the
+// cache coherent with the database is AccountCacheUpdater's job, so a distributed implementation
+// can be swapped in without touching the services. Accounts handed out are shared between
+// readers and must be treated as read-only.
+public interface AccountCache {
+
+  BankAccount getAccount(String accountNumber);
+
+  void putAccount(BankAccount account);
+
+  // Used when filling the cache from a read, so a stale read cannot replace a newer committed write
+  void putAccountIfAbsent(BankAccount account);
+
+  void evictAccount(String accountNumber);
+
+  List<String> getAccountNumbers(String userEmail);
+
+  // Read before loading a list from the database and passed back to putAccountNumbers, which drops
+  // the list if evictAccountNumbers ran in between, so a list read before a commit cannot outlive it
+  long accountNumbersGeneration();
+
+  void putAccountNumbers(String userEmail, List<String> accountNumbers, long generation);
+
+  void evictAccountNumbers(String userEmail);
+}
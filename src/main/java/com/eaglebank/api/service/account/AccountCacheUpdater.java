@@ -0,0 +1,49 @@
+package com.eaglebank.api.service.account;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.eaglebank.api.model.account.BankAccount;
+
+// Applies account writes to the AccountCache once they are committed. Writers call this while
+// holding the account lock, and the lock spans the commit, so cache updates for one account are
+// applied in the same order as the database writes. A rolled back write never reaches the cache.
+@Component
+public class AccountCacheUpdater {
+
+  @Autowired private AccountCache accountCache;
+
+  public void accountCreated(BankAccount account) {
+    afterCommit(() -> {
+      accountCache.putAccount(account);
+      accountCache.evictAccountNumbers(account.getUserEmail());
+    });
+  }
+
+  public void accountChanged(BankAccount account) {
+    // The entity is copied at commit time, so later changes in the same transaction are included
+    afterCommit(() -> accountCache.putAccount(account));
+  }
+
+  public void accountDeleted(BankAccount account) {
+    afterCommit(() -> {
+      accountCache.evictAccount(account.getAccountNumber());
+      accountCache.evictAccountNumbers(account.getUserEmail());
+    });
+  }
+
+  private void afterCommit(Runnable update) {
+    if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+      update.run();
+      return;
+    }
+    TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+      @Override
+      public void afterCommit() {
+        update.run();
+      }
+    });
+  }
+}
@@ -0,0 +1,8 @@
+package com.eaglebank.api.service.account;
+
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+public interface AccountEventService {
+
+  SseEmitter subscribe(String accountNumber, String userEmail);
+}
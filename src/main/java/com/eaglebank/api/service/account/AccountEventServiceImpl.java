@@ -0,0 +1,191 @@
+package com.eaglebank.api.service.account;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import com.eaglebank.api.dto.account.BalanceResponse;
+import com.eaglebank.api.exception.SubscriptionCapacityExceededException;
+import com.eaglebank.api.model.account.BankAccount;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+
+// Live account activity over Server-Sent Events. The committing thread only offers each event to
+// the subscribers' bounded queues; writes happen on virtual threads, one drain at a time per
+// subscriber, so a slow client never delays a commit or other subscribers. A subscriber whose
+// queue overflows is disconnected and can reconnect and reload the current state.
+@Service
+public class AccountEventServiceImpl implements AccountEventService {
+
+  @Autowired private AccountAccessResolver accountAccessResolver;
+
+  private final Map<String, Set<Subscriber>> subscribers = new ConcurrentHashMap<>();
+  private final AtomicInteger subscriberCount = new AtomicInteger();
+  private final ExecutorService senders = Executors.newVirtualThreadPerTaskExecutor();
+
+  private final int bufferSize;
+  private final int maxSubscribers;
+  private final Duration timeout;
+  private final Counter evictedCounter;
+
+  public AccountEventServiceImpl(
+      MeterRegistry meterRegistry,
+      @Value("${eaglebank.account-events.buffer-size:64}") int bufferSize,
+      @Value("${eaglebank.account-events.max-subscribers:10000}") int maxSubscribers,
+      @Value("${eaglebank.account-events.timeout:30m}") Duration timeout) {
+    this.bufferSize = bufferSize;
+    this.maxSubscribers = maxSubscribers;
+    this.timeout = timeout;
+    this.evictedCounter = Counter.builder("eaglebank.account.events.evicted").register(meterRegistry);
+    Gauge.builder("eaglebank.account.events.subscribers", subscriberCount, AtomicInteger::get)
+        .register(meterRegistry);
+  }
+
+  @Override
+  public SseEmitter subscribe(String accountNumber, String userEmail) {
+    BankAccount account = accountAccessResolver.resolveForRead(accountNumber, userEmail);
+    if (subscriberCount.incrementAndGet() > maxSubscribers) {
+      subscriberCount.decrementAndGet();
+      throw new SubscriptionCapacityExceededException();
+    }
+
+    SseEmitter emitter = createEmitter();
+    Subscriber subscriber = new Subscriber(accountNumber, emitter);
+    // Added inside compute so a concurrent remove cannot drop the set this subscriber joins
+    subscribers.compute(accountNumber, (key, accountSubscribers) -> {
+      Set<Subscriber> joined = accountSubscribers != null ? accountSubscribers : ConcurrentHashMap.newKeySet();
+      joined.add(subscriber);
+      return joined;
+    });
+    emitter.onCompletion(() -> remove(subscriber));
+    emitter.onTimeout(() -> remove(subscriber));
+    emitter.onError(error -> remove(subscriber));
+
+    // Start with the current balance so the client does not need a separate request
+    subscriber.offer(SseEmitter.event().name("balance")
+        .data(new BalanceResponse(accountNumber, account.getBalance(), account.getCurrency(), LocalDateTime.now())));
+    return emitter;
+  }
+
+  @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+  public void onAccountActivity(AccountActivityEvent event) {
+    Set<Subscriber> accountSubscribers = subscribers.get(event.getAccountNumber());
+    if (accountSubscribers == null) {
+      return;
+    }
+    for (Subscriber subscriber : accountSubscribers) {
+      subscriber.offer(SseEmitter.event().name("transaction").id(event.getTransaction().getId())
+          .data(event.getTransaction()));
+      subscriber.offer(SseEmitter.event().name("balance").data(event.getBalance()));
+    }
+  }
+
+  // Comment lines keep idle connections open through proxies and reveal clients that went away
+  @Scheduled(fixedDelayString = "${eaglebank.account-events.heartbeat-interval-ms:15000}")
+  public void sendHeartbeats() {
+    for (Set<Subscriber> accountSubscribers : subscribers.values()) {
+      for (Subscriber subscriber : accountSubscribers) {
+        subscriber.offer(SseEmitter.event().comment("heartbeat"));
+      }
+    }
+  }
+
+  // Package-private so tests can substitute an emitter whose writes block
+  SseEmitter createEmitter() {
+    return new SseEmitter(timeout.toMillis());
+  }
+
+  @PreDestroy
+  public void shutdown() {
+    senders.shutdownNow();
+  }
+
+  private boolean remove(Subscriber subscriber) {
+    if (!subscriber.closed.compareAndSet(false, true)) {
+      return false;
+    }
+    subscriberCount.decrementAndGet();
+    subscribers.computeIfPresent(subscriber.accountNumber,
+        (key, accountSubscribers) -> accountSubscribers.remove(subscriber) && accountSubscribers.isEmpty()
+            ? null : accountSubscribers);
+    return true;
+  }
+
+  // Runs on the offering thread, i.e. a committing writer that still holds the account lock, or the
+  // heartbeat scheduler. The queue only overflows while the drain is stuck writing to a full socket,
+  // and complete() waits for that write, so the emitter is closed on a sender thread instead.
+  private void evict(Subscriber subscriber) {
+    if (remove(subscriber)) {
+      evictedCounter.increment();
+      subscriber.queue.clear();
+      senders.execute(subscriber.emitter::complete);
+    }
+  }
+
+  private class Subscriber {
+
+    private final String accountNumber;
+    private final SseEmitter emitter;
+    private final Queue<SseEmitter.SseEventBuilder> queue = new ArrayBlockingQueue<>(bufferSize);
+    private final AtomicBoolean draining = new AtomicBoolean();
+    private final AtomicBoolean closed = new AtomicBoolean();
+
+    Subscriber(String accountNumber, SseEmitter emitter) {
+      this.accountNumber = accountNumber;
+      this.emitter = emitter;
+    }
+
+    void offer(SseEmitter.SseEventBuilder event) {
+      if (closed.get()) {
+        return;
+      }
+      if (!queue.offer(event)) {
+        evict(this);
+        return;
+      }
+      if (draining.compareAndSet(false, true)) {
+        senders.execute(this::drain);
+      }
+    }
+
+    private void drain() {
+      try {
+        SseEmitter.SseEventBuilder event;
+        while (!closed.get() && (event = queue.poll()) != null) {
+          emitter.send(event);
+        }
+      } catch (IOException | IllegalStateException e) {
+        // The client disconnected or the emitter already completed
+        remove(this);
+        emitter.completeWithError(e);
+        return;
+      } finally {
+        draining.set(false);
+      }
+      // An event offered after the last poll but before draining was cleared would otherwise wait
+      if (!closed.get() && !queue.isEmpty() && draining.compareAndSet(false, true)) {
+        senders.execute(this::drain);
+      }
+    }
+  }
+}
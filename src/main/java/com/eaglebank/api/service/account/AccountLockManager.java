@@ -0,0 +1,65 @@
+package com.eaglebank.api.service.account;
+
+import java.util.Collection;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+@Component
+public class AccountLockManager {
+
+  private final ReentrantLock[] stripes;
+  private final int mask;
+
+  public AccountLockManager(@Value("${eaglebank.account-locks.stripes:256}") int stripeCount) {
+    // Round up to a power of two so the stripe index is a cheap mask
+    int size = 1;
+    while (size < stripeCount) {
+      size <<= 1;
+    }
+    this.stripes = new ReentrantLock[size];
+    for (int i = 0; i < size; i++) {
+      stripes[i] = new ReentrantLock();
+    }
+    this.mask = size - 1;
+  }
+
+  public <T> T withAccountLock(String accountNumber, Supplier<T> action) {
+    ReentrantLock lock = stripes[stripeIndex(accountNumber)];
+    lock.lock();
+    try {
+      return action.get();
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  public <T> T withAccountLocks(Collection<String> accountNumbers, Supplier<T> action) {
+    // Always acquire stripes in ascending order so overlapping lock sets cannot deadlock
+    int[] indexes = accountNumbers.stream()
+        .mapToInt(this::stripeIndex)
+        .distinct()
+        .sorted()
+        .toArray();
+
+    int acquired = 0;
+    try {
+      for (int index : indexes) {
+        stripes[index].lock();
+        acquired++;
+      }
+      return action.get();
+    } finally {
+      for (int i = acquired - 1; i >= 0; i--) {
+        stripes[indexes[i]].unlock();
+      }
+    }
+  }
+
+  private int stripeIndex(String accountNumber) {
+    int hash = accountNumber.hashCode();
+    return (hash ^ (hash >>> 16)) & mask;
+  }
+}
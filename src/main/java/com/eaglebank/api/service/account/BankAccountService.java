@@ -1,7 +1,8 @@
 package com.eaglebank.api.service.account;
 
-import java.util.List;
+import java.time.LocalDateTime;
 
+import com.eaglebank.api.dto.account.BalanceResponse;
 import com.eaglebank.api.dto.account.BankAccountResponse;
 import com.eaglebank.api.dto.account.CreateBankAccountRequest;
 import com.eaglebank.api.dto.account.ListBankAccountsResponse;
@@ -14,6 +15,8 @@ public interface BankAccountService {
   ListBankAccountsResponse getBankAccountsForUser(String userEmail);
   
   BankAccountResponse getBankAccountByAccountNumber(String accountNumber, String userEmail);
+
+  BalanceResponse getBalance(String accountNumber, LocalDateTime at, String userEmail);
   
   BankAccountResponse updateBankAccount(String accountNumber, UpdateBankAccountRequest request, String userEmail);
   
@@ -1,32 +1,46 @@
 package com.eaglebank.api.service.account;
 
 import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
-import java.util.Optional;
-import java.util.Random;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import com.eaglebank.api.dto.account.BalanceResponse;
 import com.eaglebank.api.dto.account.BankAccountResponse;
 import com.eaglebank.api.dto.account.CreateBankAccountRequest;
 import com.eaglebank.api.dto.account.ListBankAccountsResponse;
 import com.eaglebank.api.dto.account.UpdateBankAccountRequest;
+import com.eaglebank.api.exception.ResourceConflictException;
 import com.eaglebank.api.model.account.BankAccount;
 import com.eaglebank.api.repository.BankAccountRepository;
 import com.eaglebank.api.repository.TransactionRepository;
+import com.eaglebank.api.service.id.IdGenerator;
+import com.eaglebank.api.service.ledger.LedgerService;
 
 @Service
 public class BankAccountServiceImpl implements BankAccountService {
 
   @Autowired private BankAccountRepository bankAccountRepository;
   @Autowired private TransactionRepository transactionRepository;
+  @Autowired private AccountLockManager accountLockManager;
+  @Autowired private TransactionTemplate transactionTemplate;
+  @Autowired private LedgerService ledgerService;
+  @Autowired private AccountAccessResolver accountAccessResolver;
+  @Autowired private AccountCache accountCache;
+  @Autowired private AccountCacheUpdater accountCacheUpdater;
+  @Autowired private IdGenerator idGenerator;
 
   @Override
   public BankAccountResponse createBankAccount(CreateBankAccountRequest request, String userEmail) {
     // Generate account number in format 01XXXXXX
-    String accountNumber = generateAccountNumber();
+    String accountNumber = idGenerator.nextAccountNumber();
     
     BankAccount bankAccount = new BankAccount();
     bankAccount.setAccountNumber(accountNumber);
@@ -38,12 +52,25 @@ public class BankAccountServiceImpl implements BankAccountService {
     bankAccount.setSortCode("10-10-10");
     
     BankAccount savedAccount = bankAccountRepository.save(bankAccount);
+    accountCacheUpdater.accountCreated(savedAccount);
     return new BankAccountResponse(savedAccount);
   }
 
   @Override
   public ListBankAccountsResponse getBankAccountsForUser(String userEmail) {
-    List<BankAccount> accounts = bankAccountRepository.findByUserEmail(userEmail);
+    List<BankAccount> accounts = getCachedAccountsForUser(userEmail);
+    if (accounts == null) {
+      // Taken before the query, so an account created while it runs keeps the stale list out
+      long generation = accountCache.accountNumbersGeneration();
+      accounts = bankAccountRepository.findByUserEmail(userEmail);
+      for (BankAccount account : accounts) {
+        accountCache.putAccountIfAbsent(account);
+      }
+      accountCache.putAccountNumbers(userEmail, accounts.stream()
+          .map(BankAccount::getAccountNumber)
+          .collect(Collectors.toList()), generation);
+    }
+
     List<BankAccountResponse> accountResponses = accounts.stream()
         .map(BankAccountResponse::new)
         .collect(Collectors.toList());
@@ -53,34 +80,26 @@ public class BankAccountServiceImpl implements BankAccountService {
 
   @Override
   public BankAccountResponse getBankAccountByAccountNumber(String accountNumber, String userEmail) {
-    Optional<BankAccount> account = bankAccountRepository.findByAccountNumberAndUserEmail(accountNumber, userEmail);
-    
-    if (account.isEmpty()) {
-      // Check if account exists but belongs to different user
-      if (bankAccountRepository.existsByAccountNumber(accountNumber)) {
-        throw new SecurityException("Account does not belong to authenticated user");
-      } else {
-        throw new IllegalArgumentException("Account not found");
-      }
-    }
-    
-    return new BankAccountResponse(account.get());
+    BankAccount account = accountAccessResolver.resolveForRead(accountNumber, userEmail);
+    return new BankAccountResponse(account);
+  }
+
+  @Override
+  public BalanceResponse getBalance(String accountNumber, LocalDateTime at, String userEmail) {
+    BankAccount bankAccount = accountAccessResolver.resolveForRead(accountNumber, userEmail);
+    LocalDateTime asOf = at != null ? at : LocalDateTime.now();
+    return new BalanceResponse(accountNumber, ledgerService.getBalanceAt(bankAccount, at), bankAccount.getCurrency(), asOf);
   }
 
   @Override
   public BankAccountResponse updateBankAccount(String accountNumber, UpdateBankAccountRequest request, String userEmail) {
-    Optional<BankAccount> accountOpt = bankAccountRepository.findByAccountNumberAndUserEmail(accountNumber, userEmail);
-    
-    if (accountOpt.isEmpty()) {
-      // Check if account exists but belongs to different user
-      if (bankAccountRepository.existsByAccountNumber(accountNumber)) {
-        throw new SecurityException("Account does not belong to authenticated user");
-      } else {
-        throw new IllegalArgumentException("Account not found");
-      }
-    }
-    
-    BankAccount account = accountOpt.get();
+    // Saving the whole entity would otherwise overwrite a concurrent balance update
+    return accountLockManager.withAccountLock(accountNumber,
+        () -> transactionTemplate.execute(status -> applyUpdate(accountNumber, request, userEmail)));
+  }
+
+  private BankAccountResponse applyUpdate(String accountNumber, UpdateBankAccountRequest request, String userEmail) {
+    BankAccount account = accountAccessResolver.resolve(accountNumber, userEmail);
     
     if (request.getName() != null) {
       account.setName(request.getName());
@@ -90,41 +109,71 @@ public class BankAccountServiceImpl implements BankAccountService {
     }
     
     BankAccount savedAccount = bankAccountRepository.save(account);
+    accountCacheUpdater.accountChanged(savedAccount);
     return new BankAccountResponse(savedAccount);
   }
 
   @Override
   public void deleteBankAccount(String accountNumber, String userEmail) {
-    Optional<BankAccount> accountOpt = bankAccountRepository.findByAccountNumberAndUserEmail(accountNumber, userEmail);
-    
-    if (accountOpt.isEmpty()) {
-      // Check if account exists but belongs to different user
-      if (bankAccountRepository.existsByAccountNumber(accountNumber)) {
-        throw new SecurityException("Account does not belong to authenticated user");
-      } else {
-        throw new IllegalArgumentException("Account not found");
-      }
-    }
+    // Hold the account lock so a transaction cannot be posted between the check and the delete
+    accountLockManager.withAccountLock(accountNumber, () -> transactionTemplate.execute(status -> {
+      applyDelete(accountNumber, userEmail);
+      return null;
+    }));
+  }
+
+  private void applyDelete(String accountNumber, String userEmail) {
+    BankAccount account = accountAccessResolver.resolve(accountNumber, userEmail);
     
     // Check if account has transactions
     boolean hasTransactions = transactionRepository.existsByAccountNumber(accountNumber);
     if (hasTransactions) {
-      throw new IllegalStateException("Cannot delete account with existing transactions");
+      throw new ResourceConflictException("Cannot delete account with existing transactions");
     }
     
-    bankAccountRepository.delete(accountOpt.get());
+    bankAccountRepository.delete(account);
+    accountCacheUpdater.accountDeleted(account);
   }
 
-  private String generateAccountNumber() {
-    Random random = new Random();
-    String accountNumber;
-    
-    do {
-      // Generate 6 random digits after "01"
-      int randomNumber = 100000 + random.nextInt(900000);
-      accountNumber = "01" + randomNumber;
-    } while (bankAccountRepository.existsByAccountNumber(accountNumber));
-    
-    return accountNumber;
+  // Returns null unless the user's account list and every account on it are cached
+  private List<BankAccount> getCachedAccountsForUser(String userEmail) {
+    List<String> accountNumbers = accountCache.getAccountNumbers(userEmail);
+    if (accountNumbers == null) {
+      return null;
+    }
+
+    // Misses are held as nulls so the reloaded accounts can be slotted back in list order
+    List<BankAccount> accounts = new ArrayList<>(accountNumbers.size());
+    List<String> missing = new ArrayList<>();
+    for (String accountNumber : accountNumbers) {
+      BankAccount account = accountCache.getAccount(accountNumber);
+      accounts.add(account);
+      if (account == null) {
+        missing.add(accountNumber);
+      }
+    }
+    if (missing.isEmpty()) {
+      return accounts;
+    }
+
+    // Some accounts were evicted on their own; reload just those. The hits from the first pass are
+    // kept rather than read again, since they may have been evicted in the meantime too.
+    Map<String, BankAccount> reloaded = new HashMap<>();
+    for (BankAccount account : bankAccountRepository.findAllById(missing)) {
+      accountCache.putAccountIfAbsent(account);
+      reloaded.put(account.getAccountNumber(), account);
+    }
+    if (reloaded.size() != missing.size()) {
+      // An account was deleted after the list was cached; start again from the database
+      accountCache.evictAccountNumbers(userEmail);
+      return null;
+    }
+
+    for (int i = 0; i < accounts.size(); i++) {
+      if (accounts.get(i) == null) {
+        accounts.set(i, reloaded.get(accountNumbers.get(i)));
+      }
+    }
+    return accounts;
   }
 }
@@ -0,0 +1,88 @@
+package com.eaglebank.api.service.account;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.eaglebank.api.model.account.BankAccount;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
+// In-process AccountCache; hit, miss and eviction counts are published as cache.* meters
+@Component
+public class CaffeineAccountCache implements AccountCache {
+
+  private final Cache<String, BankAccount> accounts;
+  private final Cache<String, List<String>> accountNumbersByEmail;
+  private final AtomicLong accountNumbersGeneration = new AtomicLong();
+
+  public CaffeineAccountCache(
+      MeterRegistry meterRegistry,
+      @Value("${eaglebank.account-cache.ttl:10m}") Duration ttl,
+      @Value("${eaglebank.account-cache.max-size:10000}") long maxSize) {
+    this.accounts = Caffeine.newBuilder()
+        .expireAfterWrite(ttl)
+        .maximumSize(maxSize)
+        .recordStats()
+        .build();
+    this.accountNumbersByEmail = Caffeine.newBuilder()
+        .expireAfterWrite(ttl)
+        .maximumSize(maxSize)
+        .recordStats()
+        .build();
+    CaffeineCacheMetrics.monitor(meterRegistry, accounts, "accounts");
+    CaffeineCacheMetrics.monitor(meterRegistry, accountNumbersByEmail, "account-numbers-by-email");
+  }
+
+  @Override
+  public BankAccount getAccount(String accountNumber) {
+    return accounts.getIfPresent(accountNumber);
+  }
+
+  @Override
+  public void putAccount(BankAccount account) {
+    // Store a copy so the caller's entity can keep changing without affecting readers
+    accounts.put(account.getAccountNumber(), new BankAccount(account));
+  }
+
+  @Override
+  public void putAccountIfAbsent(BankAccount account) {
+    accounts.asMap().putIfAbsent(account.getAccountNumber(), new BankAccount(account));
+  }
+
+  @Override
+  public void evictAccount(String accountNumber) {
+    accounts.invalidate(accountNumber);
+  }
+
+  @Override
+  public List<String> getAccountNumbers(String userEmail) {
+    return accountNumbersByEmail.getIfPresent(userEmail);
+  }
+
+  @Override
+  public long accountNumbersGeneration() {
+    return accountNumbersGeneration.get();
+  }
+
+  @Override
+  public void putAccountNumbers(String userEmail, List<String> accountNumbers, long generation) {
+    List<String> copy = List.copyOf(accountNumbers);
+    // Checked under the entry's lock: an evict either lands first and the put is dropped, or after
+    // it and removes the list again
+    accountNumbersByEmail.asMap().compute(userEmail,
+        (key, current) -> accountNumbersGeneration.get() == generation ? copy : current);
+  }
+
+  @Override
+  public void evictAccountNumbers(String userEmail) {
+    accountNumbersGeneration.incrementAndGet();
+    accountNumbersByEmail.invalidate(userEmail);
+  }
+}
@@ -0,0 +1,8 @@
+package com.eaglebank.api.service.id;
+
+public interface IdGenerator {
+
+  String nextAccountNumber();
+
+  String nextTransactionId();
+}
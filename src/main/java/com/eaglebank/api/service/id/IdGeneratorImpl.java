@@ -0,0 +1,103 @@
+package com.eaglebank.api.service.id;
+
+import java.security.SecureRandom;
+import java.time.Instant;
+import java.util.BitSet;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+import com.eaglebank.api.repository.BankAccountRepository;
+
+@Service
+public class IdGeneratorImpl implements IdGenerator {
+
+  // Must match INCREMENT BY on account_number_seq
+  static final int ACCOUNT_NUMBER_BLOCK_SIZE = 100;
+  private static final int ACCOUNT_NUMBER_SPACE = 1_000_000;
+
+  // Digits then upper then lower case, which is also ASCII order, so fixed-width ids sort by value
+  private static final char[] BASE62 = "0123456789ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz".toCharArray();
+  private static final long EPOCH_MILLIS = Instant.parse("2024-01-01T00:00:00Z").toEpochMilli();
+  private static final int SEQUENCE_BITS = 22;
+  private static final int STAMP_LENGTH = 11;
+  private static final int NODE_LENGTH = 5;
+
+  @Autowired private BankAccountRepository bankAccountRepository;
+
+  private final ReentrantLock accountNumberLock = new ReentrantLock();
+  private BitSet legacyAccountNumbers;
+  private long nextAccountNumber;
+  private long accountNumberLimit;
+
+  private final AtomicLong lastStamp = new AtomicLong();
+  private final char[] node = new char[NODE_LENGTH];
+
+  public IdGeneratorImpl() {
+    // Separates ids minted in the same millisecond by different instances
+    SecureRandom random = new SecureRandom();
+    for (int i = 0; i < NODE_LENGTH; i++) {
+      node[i] = BASE62[random.nextInt(BASE62.length)];
+    }
+  }
+
+  @Override
+  public String nextAccountNumber() {
+    accountNumberLock.lock();
+    try {
+      if (legacyAccountNumbers == null) {
+        legacyAccountNumbers = loadAccountNumbers();
+      }
+      long value;
+      do {
+        if (nextAccountNumber == accountNumberLimit) {
+          reserveAccountNumberBlock();
+        }
+        value = nextAccountNumber++;
+        // Numbers issued randomly before the sequence existed are skipped
+      } while (legacyAccountNumbers.get((int) value));
+      return String.format("01%06d", value);
+    } finally {
+      accountNumberLock.unlock();
+    }
+  }
+
+  private void reserveAccountNumberBlock() {
+    long blockStart = bankAccountRepository.nextAccountNumberBlock();
+    if (blockStart + ACCOUNT_NUMBER_BLOCK_SIZE > ACCOUNT_NUMBER_SPACE) {
+      throw new IllegalStateException("No account numbers left to allocate");
+    }
+    nextAccountNumber = blockStart;
+    accountNumberLimit = blockStart + ACCOUNT_NUMBER_BLOCK_SIZE;
+  }
+
+  private BitSet loadAccountNumbers() {
+    BitSet used = new BitSet(ACCOUNT_NUMBER_SPACE);
+    for (String accountNumber : bankAccountRepository.findAllAccountNumbers()) {
+      used.set(Integer.parseInt(accountNumber, 2, accountNumber.length(), 10));
+    }
+    return used;
+  }
+
+  @Override
+  public String nextTransactionId() {
+    // Milliseconds since EPOCH_MILLIS in the high bits and a counter in the low bits. Taking the
+    // larger of now and last + 1 keeps the stamp unique and increasing even if the clock steps back.
+    long now = (System.currentTimeMillis() - EPOCH_MILLIS) << SEQUENCE_BITS;
+    long stamp = lastStamp.updateAndGet(last -> Math.max(last + 1, now));
+
+    char[] id = new char[4 + STAMP_LENGTH + NODE_LENGTH];
+    id[0] = 't';
+    id[1] = 'a';
+    id[2] = 'n';
+    id[3] = '-';
+    for (int i = 4 + STAMP_LENGTH - 1; i >= 4; i--) {
+      id[i] = BASE62[(int) (stamp % BASE62.length)];
+      stamp /= BASE62.length;
+    }
+    System.arraycopy(node, 0, id, 4 + STAMP_LENGTH, NODE_LENGTH);
+    return new String(id);
+  }
+}
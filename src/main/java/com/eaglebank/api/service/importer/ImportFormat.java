@@ -0,0 +1,11 @@
+package com.eaglebank.api.service.importer;
+
+public enum ImportFormat {
+  CSV,
+  NDJSON;
+
+  // Anything not ending in .csv is read as NDJSON
+  public static ImportFormat forFileName(String fileName) {
+    return fileName.toLowerCase().endsWith(".csv") ? CSV : NDJSON;
+  }
+}
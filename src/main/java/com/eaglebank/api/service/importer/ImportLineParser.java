@@ -0,0 +1,177 @@
+package com.eaglebank.api.service.importer;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeFormatterBuilder;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import com.eaglebank.api.dto.transaction.ImportTransactionRequest;
+import com.eaglebank.api.model.transaction.TransactionType;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+
+// Turns one line of an import file into a validated request. Stateless once the CSV header has been
+// read, so lines of a chunk can be parsed on several threads at once. Field names match the
+// transaction export, whose extra columns (id, sequenceNumber, balanceAfter, userId) are ignored.
+class ImportLineParser {
+
+  // ISO local date-time, optionally with the trailing Z the export writes
+  private static final DateTimeFormatter TIMESTAMP_FORMAT = new DateTimeFormatterBuilder()
+      .append(DateTimeFormatter.ISO_LOCAL_DATE_TIME)
+      .optionalStart()
+      .appendLiteral('Z')
+      .optionalEnd()
+      .toFormatter();
+
+  private final ImportFormat format;
+  private final ObjectReader jsonReader;
+  private final Validator validator;
+  private List<String> header;
+
+  ImportLineParser(ImportFormat format, ObjectMapper objectMapper, Validator validator) {
+    this.format = format;
+    this.jsonReader = objectMapper.readerFor(JsonNode.class).with(DeserializationFeature.USE_BIG_DECIMAL_FOR_FLOATS);
+    this.validator = validator;
+  }
+
+  void readHeader(String line) {
+    header = new ArrayList<>();
+    for (String name : splitCsv(line)) {
+      header.add(name.trim());
+    }
+  }
+
+  ImportRow parse(long lineNumber, String line) {
+    Map<String, String> fields;
+    try {
+      fields = format == ImportFormat.CSV ? csvFields(line) : jsonFields(line);
+    } catch (IllegalArgumentException | JsonProcessingException e) {
+      return ImportRow.rejected(lineNumber, "Malformed " + format.name().toLowerCase() + " record");
+    }
+
+    ImportTransactionRequest request = new ImportTransactionRequest();
+    request.setAccountNumber(fields.get("accountNumber"));
+    request.setReference(fields.get("reference"));
+    if (fields.get("currency") != null) {
+      request.setCurrency(fields.get("currency"));
+    }
+    try {
+      String amount = fields.get("amount");
+      request.setAmount(amount != null ? new BigDecimal(amount) : null);
+    } catch (NumberFormatException e) {
+      return ImportRow.rejected(lineNumber, "amount: must be a number");
+    }
+    try {
+      String type = fields.get("type");
+      request.setType(type != null ? TransactionType.valueOf(type) : null);
+    } catch (IllegalArgumentException e) {
+      return ImportRow.rejected(lineNumber, "type: must be deposit or withdrawal");
+    }
+    try {
+      String createdTimestamp = fields.get("createdTimestamp");
+      request.setCreatedTimestamp(createdTimestamp != null
+          ? LocalDateTime.parse(createdTimestamp, TIMESTAMP_FORMAT) : null);
+    } catch (DateTimeParseException e) {
+      return ImportRow.rejected(lineNumber, "createdTimestamp: must be an ISO-8601 date-time");
+    }
+
+    Set<ConstraintViolation<ImportTransactionRequest>> violations = validator.validate(request);
+    if (!violations.isEmpty()) {
+      return ImportRow.rejected(lineNumber, violations.stream()
+          .map(violation -> violation.getPropertyPath() + ": " + violation.getMessage())
+          .sorted()
+          .collect(Collectors.joining("; ")));
+    }
+    return ImportRow.accepted(lineNumber, request);
+  }
+
+  private Map<String, String> jsonFields(String line) throws JsonProcessingException {
+    JsonNode node = jsonReader.readValue(line);
+    if (!node.isObject()) {
+      throw new IllegalArgumentException("Not a JSON object");
+    }
+    Map<String, String> fields = new HashMap<>();
+    for (Map.Entry<String, JsonNode> entry : node.properties()) {
+      JsonNode value = entry.getValue();
+      if (value.isNumber()) {
+        // Plain notation, as decimal nodes may have had trailing zeros stripped to an exponent form
+        fields.put(entry.getKey(), value.decimalValue().toPlainString());
+      } else if (!value.isNull()) {
+        fields.put(entry.getKey(), value.asText());
+      }
+    }
+    return fields;
+  }
+
+  private Map<String, String> csvFields(String line) {
+    List<String> values = splitCsv(line);
+    if (values.size() != header.size()) {
+      throw new IllegalArgumentException("Expected " + header.size() + " columns");
+    }
+    Map<String, String> fields = new HashMap<>();
+    for (int i = 0; i < values.size(); i++) {
+      if (!values.get(i).isEmpty()) {
+        fields.put(header.get(i), values.get(i));
+      }
+    }
+    return fields;
+  }
+
+  // RFC 4180 fields on a single line. A quoted value the export prefixed with ' to stop spreadsheets
+  // evaluating it as a formula has the prefix removed again.
+  private static List<String> splitCsv(String line) {
+    List<String> values = new ArrayList<>();
+    StringBuilder value = new StringBuilder();
+    int i = 0;
+    while (true) {
+      value.setLength(0);
+      if (i < line.length() && line.charAt(i) == '"') {
+        i++;
+        while (true) {
+          if (i >= line.length()) {
+            throw new IllegalArgumentException("Unterminated quoted value");
+          }
+          char c = line.charAt(i++);
+          if (c == '"') {
+            if (i < line.length() && line.charAt(i) == '"') {
+              value.append('"');
+              i++;
+            } else {
+              break;
+            }
+          } else {
+            value.append(c);
+          }
+        }
+        if (i < line.length() && line.charAt(i) != ',') {
+          throw new IllegalArgumentException("Unexpected character after quoted value");
+        }
+        if (value.length() > 1 && value.charAt(0) == '\'' && "=+-@".indexOf(value.charAt(1)) >= 0) {
+          value.deleteCharAt(0);
+        }
+      } else {
+        while (i < line.length() && line.charAt(i) != ',') {
+          value.append(line.charAt(i++));
+        }
+      }
+      values.add(value.toString());
+      if (i >= line.length()) {
+        return values;
+      }
+      i++;
+    }
+  }
+}
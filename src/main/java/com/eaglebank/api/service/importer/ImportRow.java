@@ -0,0 +1,15 @@
+package com.eaglebank.api.service.importer;
+
+import com.eaglebank.api.dto.transaction.ImportTransactionRequest;
+
+// A parsed line: either a valid request or the reason it was rejected
+record ImportRow(long lineNumber, ImportTransactionRequest request, String rejection) {
+
+  static ImportRow accepted(long lineNumber, ImportTransactionRequest request) {
+    return new ImportRow(lineNumber, request, null);
+  }
+
+  static ImportRow rejected(long lineNumber, String rejection) {
+    return new ImportRow(lineNumber, null, rejection);
+  }
+}
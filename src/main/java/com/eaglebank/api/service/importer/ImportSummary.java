@@ -0,0 +1,41 @@
+package com.eaglebank.api.service.importer;
+
+public class ImportSummary {
+
+  private final String importId;
+  private final long resumedFromLine;
+  private final long linesProcessed;
+  private final long importedCount;
+  private final long rejectedCount;
+
+  public ImportSummary(String importId, long resumedFromLine, long linesProcessed, long importedCount,
+      long rejectedCount) {
+    this.importId = importId;
+    this.resumedFromLine = resumedFromLine;
+    this.linesProcessed = linesProcessed;
+    this.importedCount = importedCount;
+    this.rejectedCount = rejectedCount;
+  }
+
+  public String getImportId() {
+    return importId;
+  }
+
+  // Lines already committed by earlier runs of the same import
+  public long getResumedFromLine() {
+    return resumedFromLine;
+  }
+
+  // Totals across every run of the import, including earlier ones
+  public long getLinesProcessed() {
+    return linesProcessed;
+  }
+
+  public long getImportedCount() {
+    return importedCount;
+  }
+
+  public long getRejectedCount() {
+    return rejectedCount;
+  }
+}
@@ -0,0 +1,50 @@
+package com.eaglebank.api.service.importer;
+
+import java.nio.file.Path;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.stereotype.Component;
+
+// Command-line entry point for ledger migrations, e.g.
+//   java -jar eagle-bank-api.jar --spring.main.web-application-type=none --eaglebank.import.file=ledger.ndjson
+// Running the same command again after a failure resumes from the last committed chunk.
+@Component
+@ConditionalOnProperty(name = "eaglebank.import.file")
+public class TransactionImportRunner implements ApplicationRunner {
+
+  private static final Logger logger = LoggerFactory.getLogger(TransactionImportRunner.class);
+
+  @Autowired private TransactionImportService transactionImportService;
+  @Autowired private ConfigurableApplicationContext applicationContext;
+
+  @Value("${eaglebank.import.file}")
+  private String file;
+
+  // Checkpoint name; defaults to the file name, so a different file with the same name needs its own id
+  @Value("${eaglebank.import.id:}")
+  private String importId;
+
+  @Value("${eaglebank.import.exit-on-completion:true}")
+  private boolean exitOnCompletion;
+
+  @Override
+  public void run(ApplicationArguments args) throws Exception {
+    Path path = Path.of(file);
+    String id = importId.isEmpty() ? path.getFileName().toString() : importId;
+    ImportSummary summary = transactionImportService.importTransactions(path, ImportFormat.forFileName(file), id);
+    logger.info("Import {} finished at line {}: {} imported, {} rejected", summary.getImportId(),
+        summary.getLinesProcessed(), summary.getImportedCount(), summary.getRejectedCount());
+
+    if (exitOnCompletion) {
+      System.exit(SpringApplication.exit(applicationContext));
+    }
+  }
+}
@@ -0,0 +1,9 @@
+package com.eaglebank.api.service.importer;
+
+import java.io.IOException;
+import java.nio.file.Path;
+
+public interface TransactionImportService {
+
+  ImportSummary importTransactions(Path file, ImportFormat format, String importId) throws IOException;
+}
@@ -0,0 +1,307 @@
+package com.eaglebank.api.service.importer;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Writer;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.stream.IntStream;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.eaglebank.api.dto.transaction.ImportTransactionRequest;
+import com.eaglebank.api.model.account.BankAccount;
+import com.eaglebank.api.model.importer.ImportCheckpoint;
+import com.eaglebank.api.model.transaction.Transaction;
+import com.eaglebank.api.model.transaction.TransactionType;
+import com.eaglebank.api.repository.BankAccountRepository;
+import com.eaglebank.api.repository.ImportCheckpointRepository;
+import com.eaglebank.api.repository.TransactionRepository;
+import com.eaglebank.api.service.account.AccountAccessResolver;
+import com.eaglebank.api.service.account.AccountCacheUpdater;
+import com.eaglebank.api.service.account.AccountLockManager;
+import com.eaglebank.api.service.id.IdGenerator;
+import com.eaglebank.api.service.ledger.LedgerService;
+import com.eaglebank.api.service.statement.StatementService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
+
+// Replays a legacy ledger file in chunks. Lines of a chunk are parsed and validated in parallel,
+// then grouped by account and applied in file order per account, against balances held in memory
+// for the chunk. Each chunk is one database transaction under the account locks: the journal rows
+// go out as JDBC batch inserts, and the accounts, statement totals and checkpoint are updated
+// alongside them, so a restarted import continues after the last committed chunk.
+@Service
+public class TransactionImportServiceImpl implements TransactionImportService {
+
+  private static final Logger logger = LoggerFactory.getLogger(TransactionImportServiceImpl.class);
+
+  private static final String INSERT_TRANSACTION = "INSERT INTO transactions"
+      + " (id, amount, currency, type, reference, user_id, account_number, sequence_number, balance_after,"
+      + " created_timestamp) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+  private static final BigDecimal MAX_BALANCE = new BigDecimal(BankAccount.MAX_BALANCE);
+
+  @Autowired private BankAccountRepository bankAccountRepository;
+  @Autowired private TransactionRepository transactionRepository;
+  @Autowired private ImportCheckpointRepository importCheckpointRepository;
+  @Autowired private AccountAccessResolver accountAccessResolver;
+  @Autowired private AccountCacheUpdater accountCacheUpdater;
+  @Autowired private AccountLockManager accountLockManager;
+  @Autowired private TransactionTemplate transactionTemplate;
+  @Autowired private LedgerService ledgerService;
+  @Autowired private IdGenerator idGenerator;
+  @Autowired private StatementService statementService;
+  @Autowired private JdbcTemplate jdbcTemplate;
+  @Autowired private ObjectMapper objectMapper;
+  @PersistenceContext private EntityManager entityManager;
+
+  // Lines per database transaction; also how far an interrupted import has to redo
+  @Value("${eaglebank.import.chunk-size:5000}")
+  private int chunkSize;
+
+  @Value("${eaglebank.import.jdbc-batch-size:500}")
+  private int jdbcBatchSize;
+
+  private final Counter importedCounter;
+  private final Counter rejectedCounter;
+
+  // Built here rather than injected; the request constraints need no Spring wiring
+  private final Validator validator = Validation.buildDefaultValidatorFactory().getValidator();
+
+  public TransactionImportServiceImpl(MeterRegistry meterRegistry) {
+    this.importedCounter = Counter.builder("eaglebank.import.rows").tag("outcome", "imported").register(meterRegistry);
+    this.rejectedCounter = Counter.builder("eaglebank.import.rows").tag("outcome", "rejected").register(meterRegistry);
+  }
+
+  @Override
+  public ImportSummary importTransactions(Path file, ImportFormat format, String importId) throws IOException {
+    ImportCheckpoint checkpoint = importCheckpointRepository.findById(importId).orElse(null);
+    long resumeAfter = checkpoint != null ? checkpoint.getLinesProcessed() : 0;
+    if (resumeAfter > 0) {
+      logger.info("Import {} resuming after line {}", importId, resumeAfter);
+    }
+
+    ImportLineParser parser = new ImportLineParser(format, objectMapper, validator);
+    Path rejectsFile = file.resolveSibling(file.getFileName() + ".rejects.ndjson");
+    long startedAt = System.nanoTime();
+    long rowsThisRun = 0;
+
+    try (BufferedReader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+      long lineNumber = 0;
+      String line;
+      if (format == ImportFormat.CSV) {
+        line = reader.readLine();
+        lineNumber++;
+        if (line != null) {
+          parser.readHeader(line);
+        }
+      }
+
+      List<String> chunk = new ArrayList<>(chunkSize);
+      long chunkStart = 0;
+      while ((line = reader.readLine()) != null) {
+        lineNumber++;
+        if (lineNumber <= resumeAfter) {
+          continue;
+        }
+        if (chunk.isEmpty()) {
+          chunkStart = lineNumber;
+        }
+        chunk.add(line);
+        if (chunk.size() == chunkSize) {
+          checkpoint = importChunk(importId, parser, chunkStart, chunk, rejectsFile);
+          rowsThisRun += chunk.size();
+          logProgress(checkpoint, rowsThisRun, startedAt);
+          chunk.clear();
+        }
+      }
+      if (!chunk.isEmpty()) {
+        checkpoint = importChunk(importId, parser, chunkStart, chunk, rejectsFile);
+        rowsThisRun += chunk.size();
+        logProgress(checkpoint, rowsThisRun, startedAt);
+      }
+    }
+
+    if (checkpoint == null) {
+      return new ImportSummary(importId, resumeAfter, 0, 0, 0);
+    }
+    return new ImportSummary(importId, resumeAfter, checkpoint.getLinesProcessed(), checkpoint.getImportedCount(),
+        checkpoint.getRejectedCount());
+  }
+
+  private ImportCheckpoint importChunk(String importId, ImportLineParser parser, long chunkStart, List<String> lines,
+      Path rejectsFile) throws IOException {
+    // Parsing and bean validation are independent per line; toList keeps file order
+    List<ImportRow> rows = IntStream.range(0, lines.size())
+        .parallel()
+        .mapToObj(i -> lines.get(i).isBlank() ? null : parser.parse(chunkStart + i, lines.get(i)))
+        .filter(Objects::nonNull)
+        .toList();
+    long chunkEnd = chunkStart + lines.size() - 1;
+
+    Set<String> accountNumbers = new TreeSet<>();
+    for (ImportRow row : rows) {
+      if (row.request() != null) {
+        accountNumbers.add(row.request().getAccountNumber());
+      }
+    }
+
+    List<ImportRow> rejected = new ArrayList<>();
+    ImportCheckpoint checkpoint = accountLockManager.withAccountLocks(accountNumbers,
+        () -> transactionTemplate.execute(status -> applyChunk(importId, rows, accountNumbers, chunkEnd, rejected)));
+
+    if (!rejected.isEmpty()) {
+      writeRejects(rejectsFile, rejected);
+    }
+    importedCounter.increment(rows.size() - rejected.size());
+    rejectedCounter.increment(rejected.size());
+    return checkpoint;
+  }
+
+  private ImportCheckpoint applyChunk(String importId, List<ImportRow> rows, Set<String> accountNumbers,
+      long chunkEnd, List<ImportRow> rejected) {
+    // Rows of one account stay in file order; accounts do not depend on each other
+    Map<String, List<ImportRow>> rowsByAccount = new LinkedHashMap<>();
+    for (ImportRow row : rows) {
+      if (row.request() == null) {
+        rejected.add(row);
+      } else {
+        rowsByAccount.computeIfAbsent(row.request().getAccountNumber(), accountNumber -> new ArrayList<>()).add(row);
+      }
+    }
+
+    Map<String, BankAccount> accounts = new HashMap<>();
+    for (BankAccount account : bankAccountRepository.findAllById(accountNumbers)) {
+      accounts.put(account.getAccountNumber(), account);
+    }
+    Map<String, LocalDateTime> latestTimestamps = new HashMap<>();
+    if (!accountNumbers.isEmpty()) {
+      for (Object[] latest : transactionRepository.findLatestTimestamps(accountNumbers)) {
+        latestTimestamps.put((String) latest[0], (LocalDateTime) latest[1]);
+      }
+    }
+
+    List<Transaction> created = new ArrayList<>();
+    List<BankAccount> touchedAccounts = new ArrayList<>();
+    for (Map.Entry<String, List<ImportRow>> entry : rowsByAccount.entrySet()) {
+      BankAccount account = accounts.get(entry.getKey());
+      if (account == null) {
+        for (ImportRow row : entry.getValue()) {
+          rejected.add(ImportRow.rejected(row.lineNumber(), "Bank account was not found"));
+        }
+        continue;
+      }
+
+      String userId = accountAccessResolver.resolveUserId(account.getUserEmail());
+      LocalDateTime latestTimestamp = latestTimestamps.get(account.getAccountNumber());
+      int createdBefore = created.size();
+      for (ImportRow row : entry.getValue()) {
+        ImportTransactionRequest request = row.request();
+        // The journal sequence must follow time, so history cannot be slotted in before existing entries
+        if (latestTimestamp != null && request.getCreatedTimestamp().isBefore(latestTimestamp)) {
+          rejected.add(ImportRow.rejected(row.lineNumber(),
+              "createdTimestamp: earlier than the latest transaction on the account"));
+          continue;
+        }
+        if (request.getType() == TransactionType.withdrawal && account.getBalance().compareTo(request.getAmount()) < 0) {
+          rejected.add(ImportRow.rejected(row.lineNumber(), "Insufficient funds to process transaction"));
+          continue;
+        }
+        // Otherwise the account would fail validation at flush and roll back the whole chunk
+        if (request.getType() == TransactionType.deposit
+            && account.getBalance().add(request.getAmount()).compareTo(MAX_BALANCE) > 0) {
+          rejected.add(ImportRow.rejected(row.lineNumber(),
+              "Deposit would take the balance above " + BankAccount.MAX_BALANCE));
+          continue;
+        }
+
+        Transaction transaction = new Transaction(idGenerator.nextTransactionId(), request.getAmount(),
+            request.getCurrency(), request.getType(), request.getReference(), userId, account.getAccountNumber());
+        transaction.setCreatedTimestamp(request.getCreatedTimestamp());
+        ledgerService.post(account, transaction);
+        created.add(transaction);
+        latestTimestamp = request.getCreatedTimestamp();
+      }
+      if (created.size() > createdBefore) {
+        touchedAccounts.add(account);
+      }
+    }
+
+    // Plain JDBC rather than persist(), so the rows never enter the persistence context
+    jdbcTemplate.batchUpdate(INSERT_TRANSACTION, created, jdbcBatchSize, (statement, transaction) -> {
+      statement.setString(1, transaction.getId());
+      statement.setBigDecimal(2, transaction.getAmount());
+      statement.setString(3, transaction.getCurrency());
+      statement.setString(4, transaction.getType().name());
+      statement.setString(5, transaction.getReference());
+      statement.setString(6, transaction.getUserId());
+      statement.setString(7, transaction.getAccountNumber());
+      statement.setLong(8, transaction.getSequenceNumber());
+      statement.setBigDecimal(9, transaction.getBalanceAfter());
+      statement.setTimestamp(10, Timestamp.valueOf(transaction.getCreatedTimestamp()));
+    });
+    statementService.recordTransactions(created);
+    bankAccountRepository.saveAll(touchedAccounts);
+    for (BankAccount account : touchedAccounts) {
+      accountCacheUpdater.accountChanged(account);
+    }
+
+    ImportCheckpoint checkpoint = importCheckpointRepository.findById(importId).orElse(null);
+    if (checkpoint == null) {
+      checkpoint = new ImportCheckpoint(importId);
+      entityManager.persist(checkpoint);
+    }
+    checkpoint.setLinesProcessed(chunkEnd);
+    checkpoint.setImportedCount(checkpoint.getImportedCount() + created.size());
+    checkpoint.setRejectedCount(checkpoint.getRejectedCount() + rejected.size());
+    return checkpoint;
+  }
+
+  // One JSON object per rejected line, appended after the chunk has committed
+  private void writeRejects(Path rejectsFile, List<ImportRow> rejected) throws IOException {
+    rejected.sort(Comparator.comparingLong(ImportRow::lineNumber));
+    try (Writer writer = Files.newBufferedWriter(rejectsFile, StandardCharsets.UTF_8,
+        StandardOpenOption.CREATE, StandardOpenOption.APPEND)) {
+      for (ImportRow row : rejected) {
+        writer.write(objectMapper.writeValueAsString(objectMapper.createObjectNode()
+            .put("line", row.lineNumber())
+            .put("reason", row.rejection())));
+        writer.write('\n');
+      }
+    }
+  }
+
+  private void logProgress(ImportCheckpoint checkpoint, long rowsThisRun, long startedAt) {
+    double seconds = Math.max((System.nanoTime() - startedAt) / 1e9, 0.001);
+    logger.info("Import {} at line {}: {} imported, {} rejected, {} lines/s", checkpoint.getId(),
+        checkpoint.getLinesProcessed(), checkpoint.getImportedCount(), checkpoint.getRejectedCount(),
+        Math.round(rowsThisRun / seconds));
+  }
+}
@@ -1,36 +1,103 @@
 package com.eaglebank.api.service.jwt;
 
+import java.security.Key;
 import java.util.Date;
+import java.util.concurrent.TimeUnit;
 
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.SignatureAlgorithm;
 import io.jsonwebtoken.security.Keys;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
 
 @Service
 public class JwtServiceImpl implements JwtService {
   // WARNING: In production, never hardcode SECRET_KEY.
   // Use a secure environment variable or a secrets manager instead.
   final String secretKey = "your-very-long-secret-key-of-at-least-32-bytes";
-    
+
+  // The key and parser are immutable and thread-safe, so build them once
+  private final Key signingKey = Keys.hmacShaKeyFor(secretKey.getBytes());
+  private final JwtParser parser = Jwts.parserBuilder().setSigningKey(signingKey).build();
+
+  // Tokens that already passed signature verification, each kept only until its own expiry
+  private final Cache<String, ValidatedToken> validatedTokens;
+
+  private final Timer signTimer;
+  private final Timer verifyTimer;
+
+  public JwtServiceImpl(
+      MeterRegistry meterRegistry,
+      @Value("${eaglebank.jwt.validation-cache.max-size:10000}") long validationCacheSize) {
+    this.validatedTokens = Caffeine.newBuilder()
+        .maximumSize(validationCacheSize)
+        .expireAfter(new Expiry<String, ValidatedToken>() {
+          @Override
+          public long expireAfterCreate(String token, ValidatedToken validated, long currentTime) {
+            long remainingMillis = validated.expiresAtMillis() - System.currentTimeMillis();
+            return TimeUnit.MILLISECONDS.toNanos(Math.max(0, remainingMillis));
+          }
+
+          @Override
+          public long expireAfterUpdate(String token, ValidatedToken validated, long currentTime, long currentDuration) {
+            return expireAfterCreate(token, validated, currentTime);
+          }
+
+          @Override
+          public long expireAfterRead(String token, ValidatedToken validated, long currentTime, long currentDuration) {
+            return currentDuration;
+          }
+        })
+        .recordStats()
+        .build();
+    CaffeineCacheMetrics.monitor(meterRegistry, validatedTokens, "validated-tokens");
+
+    // Verification is only timed on a validation cache miss, the hit rate comes from the cache meters
+    this.signTimer = Timer.builder("eaglebank.jwt")
+        .tag("operation", "sign")
+        .publishPercentiles(0.5, 0.99)
+        .register(meterRegistry);
+    this.verifyTimer = Timer.builder("eaglebank.jwt")
+        .tag("operation", "verify")
+        .publishPercentiles(0.5, 0.99)
+        .register(meterRegistry);
+  }
+
   @Override
   public String generateToken(String username) {
-    return Jwts.builder()
+    return signTimer.record(() -> Jwts.builder()
         .setSubject(username)
         .setIssuedAt(new Date())
         .setExpiration(new Date(System.currentTimeMillis() + 1000 * 60 * 15)) // 15 mins
-        .signWith(Keys.hmacShaKeyFor(secretKey.getBytes()), SignatureAlgorithm.HS256)
-        .compact();
+        .signWith(signingKey, SignatureAlgorithm.HS256)
+        .compact());
   }
 
   @Override
   public String validateTokenAndGetUsername(String token) {
-    return Jwts.parserBuilder()
-        .setSigningKey(secretKey.getBytes())
-        .build()
-        .parseClaimsJws(token)
-        .getBody()
-        .getSubject();
+    ValidatedToken cached = validatedTokens.getIfPresent(token);
+    if (cached != null && cached.expiresAtMillis() > System.currentTimeMillis()) {
+      return cached.subject();
+    }
+
+    Claims claims = verifyTimer.record(() -> parser.parseClaimsJws(token).getBody());
+    Date expiration = claims.getExpiration();
+    if (expiration != null) {
+      validatedTokens.put(token, new ValidatedToken(claims.getSubject(), expiration.getTime()));
+    }
+    return claims.getSubject();
+  }
+
+  private record ValidatedToken(String subject, long expiresAtMillis) {
   }
 }
@@ -0,0 +1,51 @@
+package com.eaglebank.api.service.ledger;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Component
+@ConditionalOnProperty(name = "eaglebank.ledger.reconciler.enabled", havingValue = "true", matchIfMissing = true)
+public class LedgerReconciler {
+
+  private static final Logger logger = LoggerFactory.getLogger(LedgerReconciler.class);
+
+  @Autowired private LedgerService ledgerService;
+
+  // Overlap between runs so accounts whose update committed after the previous query are not missed
+  @Value("${eaglebank.ledger.reconcile-overlap:1m}")
+  private Duration overlap;
+
+  private LocalDateTime lastRunStartedAt = LocalDateTime.of(1970, 1, 1, 0, 0);
+
+  @Scheduled(
+      initialDelayString = "${eaglebank.ledger.reconcile-interval-ms:60000}",
+      fixedDelayString = "${eaglebank.ledger.reconcile-interval-ms:60000}")
+  public void reconcile() {
+    LocalDateTime runStartedAt = LocalDateTime.now();
+    List<String> accountNumbers = ledgerService.findAccountsChangedSince(lastRunStartedAt.minus(overlap));
+
+    int inconsistent = 0;
+    for (String accountNumber : accountNumbers) {
+      if (!ledgerService.reconcileAccount(accountNumber)) {
+        inconsistent++;
+      }
+    }
+
+    lastRunStartedAt = runStartedAt;
+    if (inconsistent > 0) {
+      logger.error("Ledger reconciliation found {} inconsistent accounts out of {} checked",
+          inconsistent, accountNumbers.size());
+    } else {
+      logger.debug("Ledger reconciliation checked {} accounts", accountNumbers.size());
+    }
+  }
+}
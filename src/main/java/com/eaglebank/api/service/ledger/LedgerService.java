@@ -0,0 +1,19 @@
+package com.eaglebank.api.service.ledger;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import com.eaglebank.api.model.account.BankAccount;
+import com.eaglebank.api.model.transaction.Transaction;
+
+public interface LedgerService {
+
+  void post(BankAccount account, Transaction transaction);
+
+  BigDecimal getBalanceAt(BankAccount account, LocalDateTime at);
+
+  List<String> findAccountsChangedSince(LocalDateTime since);
+
+  boolean reconcileAccount(String accountNumber);
+}
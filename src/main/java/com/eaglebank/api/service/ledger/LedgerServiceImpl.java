@@ -0,0 +1,166 @@
+package com.eaglebank.api.service.ledger;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.eaglebank.api.model.account.BankAccount;
+import com.eaglebank.api.model.ledger.BalanceSnapshot;
+import com.eaglebank.api.model.transaction.Transaction;
+import com.eaglebank.api.model.transaction.TransactionType;
+import com.eaglebank.api.repository.BalanceSnapshotRepository;
+import com.eaglebank.api.repository.BankAccountRepository;
+import com.eaglebank.api.repository.TransactionRepository;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+
+@Service
+public class LedgerServiceImpl implements LedgerService {
+
+  private static final Logger logger = LoggerFactory.getLogger(LedgerServiceImpl.class);
+
+  private static final int RECONCILE_PAGE_SIZE = 1000;
+
+  @Autowired private TransactionRepository transactionRepository;
+  @Autowired private BankAccountRepository bankAccountRepository;
+  @Autowired private BalanceSnapshotRepository balanceSnapshotRepository;
+  @PersistenceContext private EntityManager entityManager;
+
+  @Value("${eaglebank.ledger.snapshot-interval:100}")
+  private long snapshotInterval;
+
+  // Callers must hold the account lock and an open transaction
+  @Override
+  public void post(BankAccount account, Transaction transaction) {
+    BigDecimal newBalance = apply(account.getBalance(), transaction);
+    long sequence = account.getLastSequenceNumber() + 1;
+
+    account.setBalance(newBalance);
+    account.setLastSequenceNumber(sequence);
+    transaction.setSequenceNumber(sequence);
+    transaction.setBalanceAfter(newBalance);
+
+    if (sequence % snapshotInterval == 0) {
+      balanceSnapshotRepository.save(new BalanceSnapshot(account.getAccountNumber(), sequence, newBalance));
+    }
+  }
+
+  @Override
+  public BigDecimal getBalanceAt(BankAccount account, LocalDateTime at) {
+    // The current balance is stored on the account; history comes from the running balance in the journal
+    if (at == null || !at.isBefore(LocalDateTime.now())) {
+      return account.getBalance();
+    }
+    return transactionRepository
+        .findFirstByAccountNumberAndCreatedTimestampLessThanEqualOrderByCreatedTimestampDescSequenceNumberDesc(
+            account.getAccountNumber(), at)
+        .map(Transaction::getBalanceAfter)
+        .orElse(BigDecimal.ZERO);
+  }
+
+  @Override
+  public List<String> findAccountsChangedSince(LocalDateTime since) {
+    return bankAccountRepository.findAccountNumbersUpdatedSince(since);
+  }
+
+  @Override
+  @Transactional
+  public boolean reconcileAccount(String accountNumber) {
+    Optional<BankAccount> accountOpt = bankAccountRepository.findById(accountNumber);
+    if (accountOpt.isEmpty()) {
+      // Deleted since it last changed, nothing left to check
+      return true;
+    }
+    BankAccount account = accountOpt.get();
+    long lastSequence = account.getLastSequenceNumber();
+    BigDecimal expectedBalance = account.getBalance();
+
+    // Replay only the journal after the newest verified snapshot
+    Optional<BalanceSnapshot> checkpoint = balanceSnapshotRepository
+        .findFirstByAccountNumberAndVerifiedTimestampIsNotNullOrderBySequenceNumberDesc(accountNumber);
+    long sequence = checkpoint.map(BalanceSnapshot::getSequenceNumber).orElse(0L);
+    BigDecimal balance = checkpoint.map(BalanceSnapshot::getBalance).orElse(BigDecimal.ZERO);
+
+    Map<Long, BigDecimal> snapshots = new HashMap<>();
+    for (BalanceSnapshot snapshot : balanceSnapshotRepository
+        .findByAccountNumberAndSequenceNumberGreaterThanOrderBySequenceNumberAsc(accountNumber, sequence)) {
+      snapshots.put(snapshot.getSequenceNumber(), snapshot.getBalance());
+    }
+
+    long verifiedUpTo = sequence;
+    boolean consistent = true;
+
+    replay:
+    while (sequence < lastSequence) {
+      List<Transaction> journal = transactionRepository
+          .findByAccountNumberAndSequenceNumberBetweenOrderBySequenceNumberAsc(
+              accountNumber, sequence + 1, lastSequence, PageRequest.of(0, RECONCILE_PAGE_SIZE));
+
+      if (journal.isEmpty()) {
+        logger.error("Ledger for account {} ends at sequence {} but the account is at sequence {}",
+            accountNumber, sequence, lastSequence);
+        consistent = false;
+        break;
+      }
+
+      for (Transaction transaction : journal) {
+        if (transaction.getSequenceNumber() != sequence + 1) {
+          logger.error("Ledger for account {} has a gap after sequence {}", accountNumber, sequence);
+          consistent = false;
+          break replay;
+        }
+
+        balance = apply(balance, transaction);
+        sequence = transaction.getSequenceNumber();
+        if (transaction.getBalanceAfter() == null || balance.compareTo(transaction.getBalanceAfter()) != 0) {
+          logger.error("Ledger for account {} expected balance {} at sequence {} but transaction {} records {}",
+              accountNumber, balance, sequence, transaction.getId(), transaction.getBalanceAfter());
+          consistent = false;
+          break replay;
+        }
+
+        BigDecimal snapshotBalance = snapshots.get(sequence);
+        if (snapshotBalance != null) {
+          if (snapshotBalance.compareTo(balance) != 0) {
+            logger.error("Balance snapshot for account {} at sequence {} records {} but the journal gives {}",
+                accountNumber, sequence, snapshotBalance, balance);
+            consistent = false;
+            break replay;
+          }
+          verifiedUpTo = sequence;
+        }
+      }
+
+      // Keep the persistence context bounded on long histories
+      entityManager.clear();
+    }
+
+    if (consistent && balance.compareTo(expectedBalance) != 0) {
+      logger.error("Account {} balance is {} but its ledger replays to {}", accountNumber, expectedBalance, balance);
+      consistent = false;
+    }
+
+    if (verifiedUpTo > checkpoint.map(BalanceSnapshot::getSequenceNumber).orElse(0L)) {
+      balanceSnapshotRepository.markVerified(accountNumber, verifiedUpTo, LocalDateTime.now());
+    }
+    return consistent;
+  }
+
+  private BigDecimal apply(BigDecimal balance, Transaction transaction) {
+    return transaction.getType() == TransactionType.deposit
+        ? balance.add(transaction.getAmount())
+        : balance.subtract(transaction.getAmount());
+  }
+}
@@ -0,0 +1,57 @@
+package com.eaglebank.api.service.outbox;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import com.eaglebank.api.model.outbox.OutboxEvent;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+// Stand-in for a message broker: appends each event as a JSON line and forces it to disk before
+// the batch counts as delivered. Only OutboxPublisher calls it, from a single thread.
+@Component
+@ConditionalOnProperty(name = "eaglebank.outbox.file-sink.enabled", havingValue = "true", matchIfMissing = true)
+public class FileOutboxSink implements OutboxSink {
+
+  @Autowired private ObjectMapper objectMapper;
+
+  @Value("${eaglebank.outbox.file-sink.path:logs/outbox-events.ndjson}")
+  private Path path;
+
+  @Override
+  public void publish(List<OutboxEvent> events) throws IOException {
+    StringBuilder lines = new StringBuilder(events.size() * 256);
+    for (OutboxEvent event : events) {
+      ObjectNode line = objectMapper.createObjectNode();
+      line.put("id", event.getId());
+      line.put("type", event.getEventType());
+      line.put("aggregateId", event.getAggregateId());
+      line.put("createdTimestamp", event.getCreatedTimestamp().toString());
+      line.set("payload", objectMapper.readTree(event.getPayload()));
+      lines.append(objectMapper.writeValueAsString(line)).append('\n');
+    }
+
+    if (path.getParent() != null) {
+      Files.createDirectories(path.getParent());
+    }
+    try (FileChannel channel = FileChannel.open(path,
+        StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND)) {
+      ByteBuffer buffer = ByteBuffer.wrap(lines.toString().getBytes(StandardCharsets.UTF_8));
+      while (buffer.hasRemaining()) {
+        channel.write(buffer);
+      }
+      channel.force(false);
+    }
+  }
+}
@@ -0,0 +1,22 @@
+package com.eaglebank.api.service.outbox;
+
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import com.eaglebank.api.model.outbox.OutboxEvent;
+
+// Fans each batch out to every OutboxSink bean; new consumers plug in by declaring a sink
+@Component
+public class OutboxEventBus {
+
+  @Autowired(required = false)
+  private List<OutboxSink> sinks = List.of();
+
+  public void publish(List<OutboxEvent> events) throws Exception {
+    for (OutboxSink sink : sinks) {
+      sink.publish(events);
+    }
+  }
+}
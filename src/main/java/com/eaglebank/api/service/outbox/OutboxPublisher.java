@@ -0,0 +1,103 @@
+package com.eaglebank.api.service.outbox;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.eaglebank.api.model.outbox.OutboxEvent;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+// Drains the outbox into the event bus in id order. A batch is deleted only after every sink has
+// accepted it; if one fails, the whole batch backs off exponentially and is delivered again later.
+@Component
+@ConditionalOnProperty(name = "eaglebank.outbox.publisher.enabled", havingValue = "true", matchIfMissing = true)
+public class OutboxPublisher {
+
+  private static final Logger logger = LoggerFactory.getLogger(OutboxPublisher.class);
+
+  @Autowired private OutboxService outboxService;
+  @Autowired private OutboxEventBus outboxEventBus;
+
+  @Value("${eaglebank.outbox.batch-size:100}")
+  private int batchSize;
+
+  // Upper bound on batches per run, so a large backlog cannot monopolise the scheduler thread
+  @Value("${eaglebank.outbox.max-batches-per-run:50}")
+  private int maxBatchesPerRun;
+
+  @Value("${eaglebank.outbox.retry.initial-delay:1s}")
+  private Duration initialRetryDelay;
+
+  @Value("${eaglebank.outbox.retry.max-delay:5m}")
+  private Duration maxRetryDelay;
+
+  // Scheduled runs and manual drains must not publish the same batch concurrently
+  private final ReentrantLock drainLock = new ReentrantLock();
+
+  private final Counter publishedCounter;
+  private final Counter failedCounter;
+  private final Timer lagTimer;
+
+  public OutboxPublisher(MeterRegistry meterRegistry) {
+    this.publishedCounter = Counter.builder("eaglebank.outbox.published").register(meterRegistry);
+    this.failedCounter = Counter.builder("eaglebank.outbox.failed.batches").register(meterRegistry);
+    // Time from commit to delivery
+    this.lagTimer = Timer.builder("eaglebank.outbox.lag")
+        .publishPercentiles(0.5, 0.99)
+        .register(meterRegistry);
+  }
+
+  @Scheduled(fixedDelayString = "${eaglebank.outbox.poll-interval-ms:500}")
+  public void drain() {
+    if (!drainLock.tryLock()) {
+      return;
+    }
+    try {
+      for (int batch = 0; batch < maxBatchesPerRun; batch++) {
+        List<OutboxEvent> events = outboxService.findDueEvents(batchSize);
+        if (events.isEmpty() || !publish(events) || events.size() < batchSize) {
+          return;
+        }
+      }
+    } finally {
+      drainLock.unlock();
+    }
+  }
+
+  private boolean publish(List<OutboxEvent> events) {
+    try {
+      outboxEventBus.publish(events);
+    } catch (Exception e) {
+      Duration delay = retryDelay(events.get(0).getAttempts());
+      logger.warn("Publishing {} outbox events failed, retrying in {}", events.size(), delay, e);
+      failedCounter.increment();
+      outboxService.scheduleRetry(events, delay);
+      return false;
+    }
+
+    outboxService.markPublished(events);
+    publishedCounter.increment(events.size());
+    LocalDateTime now = LocalDateTime.now();
+    for (OutboxEvent event : events) {
+      lagTimer.record(Duration.between(event.getCreatedTimestamp(), now));
+    }
+    return true;
+  }
+
+  private Duration retryDelay(int attempts) {
+    Duration delay = initialRetryDelay.multipliedBy(1L << Math.min(attempts, 20));
+    return delay.compareTo(maxRetryDelay) > 0 ? maxRetryDelay : delay;
+  }
+}
@@ -0,0 +1,18 @@
+package com.eaglebank.api.service.outbox;
+
+import java.time.Duration;
+import java.util.List;
+
+import com.eaglebank.api.model.outbox.OutboxEvent;
+import com.eaglebank.api.model.transaction.Transaction;
+
+public interface OutboxService {
+
+  void transactionCreated(Transaction transaction);
+
+  List<OutboxEvent> findDueEvents(int limit);
+
+  void markPublished(List<OutboxEvent> events);
+
+  void scheduleRetry(List<OutboxEvent> events, Duration delay);
+}
@@ -0,0 +1,66 @@
+package com.eaglebank.api.service.outbox;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.eaglebank.api.dto.transaction.TransactionResponse;
+import com.eaglebank.api.model.outbox.OutboxEvent;
+import com.eaglebank.api.model.transaction.Transaction;
+import com.eaglebank.api.repository.OutboxEventRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+
+@Service
+public class OutboxServiceImpl implements OutboxService {
+
+  public static final String TRANSACTION_CREATED = "transaction.created";
+
+  @Autowired private OutboxEventRepository outboxEventRepository;
+  @Autowired private ObjectMapper objectMapper;
+  @PersistenceContext private EntityManager entityManager;
+
+  // MANDATORY: the event has to commit or roll back together with the transaction it describes
+  @Override
+  @Transactional(propagation = Propagation.MANDATORY)
+  public void transactionCreated(Transaction transaction) {
+    String payload;
+    try {
+      payload = objectMapper.writeValueAsString(new TransactionResponse(transaction));
+    } catch (JsonProcessingException e) {
+      throw new IllegalStateException("Could not serialise transaction " + transaction.getId(), e);
+    }
+    entityManager.persist(new OutboxEvent(TRANSACTION_CREATED, transaction.getAccountNumber(), payload));
+  }
+
+  @Override
+  @Transactional(readOnly = true)
+  public List<OutboxEvent> findDueEvents(int limit) {
+    return outboxEventRepository.findDue(LocalDateTime.now(), PageRequest.of(0, limit));
+  }
+
+  @Override
+  @Transactional
+  public void markPublished(List<OutboxEvent> events) {
+    outboxEventRepository.deleteAllByIdInBatch(ids(events));
+  }
+
+  @Override
+  @Transactional
+  public void scheduleRetry(List<OutboxEvent> events, Duration delay) {
+    outboxEventRepository.scheduleRetry(ids(events), LocalDateTime.now().plus(delay));
+  }
+
+  private static List<Long> ids(List<OutboxEvent> events) {
+    return events.stream().map(OutboxEvent::getId).toList();
+  }
+}
@@ -0,0 +1,12 @@
+package com.eaglebank.api.service.outbox;
+
+import java.util.List;
+
+import com.eaglebank.api.model.outbox.OutboxEvent;
+
+// A destination for published outbox events. Delivery is at least once: a batch is retried as a
+// whole if any sink fails, so sinks may see an event more than once and should dedupe on its id.
+public interface OutboxSink {
+
+  void publish(List<OutboxEvent> events) throws Exception;
+}
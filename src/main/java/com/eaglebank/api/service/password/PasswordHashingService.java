@@ -0,0 +1,8 @@
+package com.eaglebank.api.service.password;
+
+public interface PasswordHashingService {
+
+  String encode(String rawPassword);
+
+  boolean matches(String rawPassword, String passwordHash);
+}
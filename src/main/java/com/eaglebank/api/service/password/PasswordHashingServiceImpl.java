@@ -0,0 +1,119 @@
+package com.eaglebank.api.service.password;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.stereotype.Service;
+
+import com.eaglebank.api.exception.HashingCapacityExceededException;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+
+// BCrypt is deliberately CPU-heavy. Running it on request threads lets a burst of logins take
+// every core and starve cheap endpoints, so hashing runs on its own small pool with a bounded
+// queue. When the queue is full the caller is rejected at once instead of waiting.
+@Service
+public class PasswordHashingServiceImpl implements PasswordHashingService {
+
+  private final BCryptPasswordEncoder passwordEncoder;
+  private final ThreadPoolExecutor executor;
+  private final Timer encodeTimer;
+  private final Timer matchesTimer;
+  private final Timer queueWaitTimer;
+  private final Counter rejectedCounter;
+
+  public PasswordHashingServiceImpl(
+      BCryptPasswordEncoder passwordEncoder,
+      MeterRegistry meterRegistry,
+      @Value("${eaglebank.password-hashing.threads:0}") int threads,
+      @Value("${eaglebank.password-hashing.queue-capacity:64}") int queueCapacity) {
+    this.passwordEncoder = passwordEncoder;
+
+    // Leave at least half the cores to the rest of the application by default
+    int poolSize = threads > 0 ? threads : Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+    this.executor = new ThreadPoolExecutor(poolSize, poolSize, 0L, TimeUnit.MILLISECONDS,
+        new ArrayBlockingQueue<>(queueCapacity), new HashingThreadFactory(), new ThreadPoolExecutor.AbortPolicy());
+
+    this.encodeTimer = Timer.builder("eaglebank.password.hash")
+        .tag("operation", "encode")
+        .publishPercentiles(0.5, 0.99)
+        .register(meterRegistry);
+    this.matchesTimer = Timer.builder("eaglebank.password.hash")
+        .tag("operation", "matches")
+        .publishPercentiles(0.5, 0.99)
+        .register(meterRegistry);
+    this.queueWaitTimer = Timer.builder("eaglebank.password.hash.queue.wait")
+        .publishPercentiles(0.5, 0.99)
+        .register(meterRegistry);
+    this.rejectedCounter = Counter.builder("eaglebank.password.hash.rejected")
+        .register(meterRegistry);
+    Gauge.builder("eaglebank.password.hash.queue.depth", executor, e -> e.getQueue().size())
+        .register(meterRegistry);
+    Gauge.builder("eaglebank.password.hash.active", executor, ThreadPoolExecutor::getActiveCount)
+        .register(meterRegistry);
+  }
+
+  @Override
+  public String encode(String rawPassword) {
+    return submit(encodeTimer, () -> passwordEncoder.encode(rawPassword));
+  }
+
+  @Override
+  public boolean matches(String rawPassword, String passwordHash) {
+    return submit(matchesTimer, () -> passwordEncoder.matches(rawPassword, passwordHash));
+  }
+
+  @PreDestroy
+  public void shutdown() {
+    executor.shutdown();
+  }
+
+  private <T> T submit(Timer timer, Callable<T> hashing) {
+    long queuedAt = System.nanoTime();
+    Future<T> future;
+    try {
+      future = executor.submit(() -> {
+        queueWaitTimer.record(System.nanoTime() - queuedAt, TimeUnit.NANOSECONDS);
+        return timer.recordCallable(hashing);
+      });
+    } catch (RejectedExecutionException e) {
+      rejectedCounter.increment();
+      throw new HashingCapacityExceededException();
+    }
+
+    try {
+      return future.get();
+    } catch (InterruptedException e) {
+      future.cancel(true);
+      Thread.currentThread().interrupt();
+      throw new IllegalStateException("Interrupted while waiting for password hashing", e);
+    } catch (ExecutionException e) {
+      throw new IllegalStateException("Password hashing failed", e.getCause());
+    }
+  }
+
+  private static class HashingThreadFactory implements ThreadFactory {
+
+    private final AtomicInteger count = new AtomicInteger();
+
+    @Override
+    public Thread newThread(Runnable runnable) {
+      Thread thread = new Thread(runnable, "password-hashing-" + count.incrementAndGet());
+      thread.setDaemon(true);
+      return thread;
+    }
+  }
+}
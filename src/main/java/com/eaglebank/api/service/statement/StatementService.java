@@ -0,0 +1,16 @@
+package com.eaglebank.api.service.statement;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import com.eaglebank.api.dto.statement.StatementResponse;
+import com.eaglebank.api.model.statement.StatementPeriod;
+import com.eaglebank.api.model.transaction.Transaction;
+
+public interface StatementService {
+
+  void recordTransactions(List<Transaction> transactions);
+
+  StatementResponse getStatement(String accountNumber, LocalDate from, LocalDate to, StatementPeriod period,
+      String userEmail);
+}
@@ -0,0 +1,83 @@
+package com.eaglebank.api.service.statement;
+
+import java.time.LocalDate;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.eaglebank.api.dto.statement.StatementBucket;
+import com.eaglebank.api.dto.statement.StatementResponse;
+import com.eaglebank.api.model.account.BankAccount;
+import com.eaglebank.api.model.statement.AccountPeriodTotal;
+import com.eaglebank.api.model.statement.StatementPeriod;
+import com.eaglebank.api.model.transaction.Transaction;
+import com.eaglebank.api.model.transaction.TransactionType;
+import com.eaglebank.api.repository.AccountPeriodTotalRepository;
+import com.eaglebank.api.service.account.AccountAccessResolver;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+
+@Service
+public class StatementServiceImpl implements StatementService {
+
+  @Autowired private AccountPeriodTotalRepository accountPeriodTotalRepository;
+  @Autowired private AccountAccessResolver accountAccessResolver;
+  @PersistenceContext private EntityManager entityManager;
+
+  // Runs in the transaction that created the rows, under the account lock, so no other writer can
+  // touch the same buckets until commit. Each bucket is one UPDATE, plus an INSERT the first time.
+  @Override
+  @Transactional(propagation = Propagation.MANDATORY)
+  public void recordTransactions(List<Transaction> transactions) {
+    Map<String, AccountPeriodTotal> deltas = new LinkedHashMap<>();
+    for (Transaction transaction : transactions) {
+      LocalDate date = transaction.getCreatedTimestamp().toLocalDate();
+      for (StatementPeriod period : StatementPeriod.values()) {
+        LocalDate periodStart = period.periodStart(date);
+        AccountPeriodTotal delta = deltas.computeIfAbsent(
+            AccountPeriodTotal.id(transaction.getAccountNumber(), period, periodStart),
+            id -> new AccountPeriodTotal(transaction.getAccountNumber(), period, periodStart));
+        add(delta, transaction);
+      }
+    }
+
+    for (AccountPeriodTotal delta : deltas.values()) {
+      int updated = accountPeriodTotalRepository.addToTotals(delta.getId(), delta.getDepositTotal(),
+          delta.getDepositCount(), delta.getWithdrawalTotal(), delta.getWithdrawalCount());
+      if (updated == 0) {
+        entityManager.persist(delta);
+      }
+    }
+  }
+
+  private static void add(AccountPeriodTotal total, Transaction transaction) {
+    if (transaction.getType() == TransactionType.deposit) {
+      total.setDepositTotal(total.getDepositTotal().add(transaction.getAmount()));
+      total.setDepositCount(total.getDepositCount() + 1);
+    } else {
+      total.setWithdrawalTotal(total.getWithdrawalTotal().add(transaction.getAmount()));
+      total.setWithdrawalCount(total.getWithdrawalCount() + 1);
+    }
+  }
+
+  @Override
+  public StatementResponse getStatement(String accountNumber, LocalDate from, LocalDate to, StatementPeriod period,
+      String userEmail) {
+    BankAccount account = accountAccessResolver.resolveForRead(accountNumber, userEmail);
+
+    // Monthly buckets cover whole months, so the month containing "from" is included
+    List<StatementBucket> buckets = accountPeriodTotalRepository
+        .findByAccountNumberAndPeriodTypeAndPeriodStartBetweenOrderByPeriodStartAsc(
+            accountNumber, period, period.periodStart(from), to)
+        .stream()
+        .map(StatementBucket::new)
+        .toList();
+    return new StatementResponse(accountNumber, account.getCurrency(), period.name().toLowerCase(), from, to, buckets);
+  }
+}
@@ -0,0 +1,71 @@
+package com.eaglebank.api.service.transaction;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Supplier;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.eaglebank.api.exception.ResourceConflictException;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
+// Remembers the outcome of each idempotent request for a fixed window. The first request for a key
+// runs the operation, duplicates arriving while it is in flight wait on the same future and later
+// repeats get the stored result. Failed operations are forgotten so the client can retry them.
+@Component
+public class IdempotencyStore {
+
+  private final Cache<String, Entry> entries;
+
+  public IdempotencyStore(
+      MeterRegistry meterRegistry,
+      @Value("${eaglebank.idempotency.window:24h}") Duration window,
+      @Value("${eaglebank.idempotency.max-size:100000}") long maxSize) {
+    this.entries = Caffeine.newBuilder()
+        .expireAfterWrite(window)
+        .maximumSize(maxSize)
+        .recordStats()
+        .build();
+    CaffeineCacheMetrics.monitor(meterRegistry, entries, "idempotency-keys");
+  }
+
+  @SuppressWarnings("unchecked")
+  public <T> T execute(String key, String fingerprint, Supplier<T> operation) {
+    Entry created = new Entry(fingerprint, new CompletableFuture<>());
+    Entry entry = entries.asMap().putIfAbsent(key, created);
+
+    if (entry == null) {
+      try {
+        T result = operation.get();
+        created.result().complete(result);
+        return result;
+      } catch (RuntimeException | Error e) {
+        entries.asMap().remove(key, created);
+        created.result().completeExceptionally(e);
+        throw e;
+      }
+    }
+
+    if (!entry.fingerprint().equals(fingerprint)) {
+      throw new ResourceConflictException("The idempotency key was already used for a different request");
+    }
+    try {
+      return (T) entry.result().join();
+    } catch (CompletionException e) {
+      // Duplicates see the same failure as the request they were coalesced with
+      if (e.getCause() instanceof RuntimeException cause) {
+        throw cause;
+      }
+      throw e;
+    }
+  }
+
+  private record Entry(String fingerprint, CompletableFuture<Object> result) {
+  }
+}
@@ -0,0 +1,22 @@
+package com.eaglebank.api.service.transaction;
+
+public enum TransactionExportFormat {
+  CSV("text/csv", "csv"),
+  NDJSON("application/x-ndjson", "ndjson");
+
+  private final String contentType;
+  private final String extension;
+
+  TransactionExportFormat(String contentType, String extension) {
+    this.contentType = contentType;
+    this.extension = extension;
+  }
+
+  public String getContentType() {
+    return contentType;
+  }
+
+  public String getExtension() {
+    return extension;
+  }
+}
@@ -0,0 +1,15 @@
+package com.eaglebank.api.service.transaction;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+public interface TransactionExportService {
+
+  // Opened only after the access check passes, so callers can still send an error response
+  interface ExportOutput {
+    OutputStream open() throws IOException;
+  }
+
+  void exportTransactions(String accountNumber, String userEmail, TransactionExportFormat format, ExportOutput output)
+      throws IOException;
+}
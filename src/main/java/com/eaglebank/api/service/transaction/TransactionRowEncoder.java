@@ -0,0 +1,159 @@
+package com.eaglebank.api.service.transaction;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.math.BigDecimal;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+
+// Encodes rows of the export query straight from the ResultSet into the output writer, without
+// building entities or DTOs. Timestamps use the same format as TransactionResponse.
+class TransactionRowEncoder {
+
+  static final String COLUMNS =
+      "id, account_number, sequence_number, type, amount, currency, balance_after, reference, user_id, created_timestamp";
+
+  private static final String[] NAMES = {
+      "id", "accountNumber", "sequenceNumber", "type", "amount", "currency", "balanceAfter", "reference", "userId",
+      "createdTimestamp"};
+  private static final DateTimeFormatter TIMESTAMP_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM-dd'T'HH:mm:ss.SSS'Z'");
+  private static final char[] HEX = "0123456789abcdef".toCharArray();
+
+  private final TransactionExportFormat format;
+  private final Writer out;
+
+  TransactionRowEncoder(TransactionExportFormat format, Writer out) {
+    this.format = format;
+    this.out = out;
+  }
+
+  void writeHeader() throws IOException {
+    if (format == TransactionExportFormat.CSV) {
+      for (int i = 0; i < NAMES.length; i++) {
+        if (i > 0) {
+          out.write(',');
+        }
+        out.write(NAMES[i]);
+      }
+      out.write("\r\n");
+    }
+  }
+
+  void writeRow(ResultSet row) throws SQLException, IOException {
+    String id = row.getString(1);
+    String accountNumber = row.getString(2);
+    long sequenceNumber = row.getLong(3);
+    String type = row.getString(4);
+    BigDecimal amount = row.getBigDecimal(5);
+    String currency = row.getString(6);
+    BigDecimal balanceAfter = row.getBigDecimal(7);
+    String reference = row.getString(8);
+    String userId = row.getString(9);
+    LocalDateTime createdTimestamp = row.getObject(10, LocalDateTime.class);
+
+    if (format == TransactionExportFormat.CSV) {
+      csv(id, false);
+      csv(accountNumber, true);
+      out.write(',');
+      out.write(Long.toString(sequenceNumber));
+      csv(type, true);
+      csv(amount, true);
+      csv(currency, true);
+      csv(balanceAfter, true);
+      csv(reference, true);
+      csv(userId, true);
+      csv(createdTimestamp != null ? TIMESTAMP_FORMAT.format(createdTimestamp) : null, true);
+      out.write("\r\n");
+    } else {
+      out.write('{');
+      json(0, id);
+      json(1, accountNumber);
+      out.write(",\"sequenceNumber\":");
+      out.write(Long.toString(sequenceNumber));
+      json(3, type);
+      json(4, amount);
+      json(5, currency);
+      json(6, balanceAfter);
+      json(7, reference);
+      json(8, userId);
+      json(9, createdTimestamp != null ? TIMESTAMP_FORMAT.format(createdTimestamp) : null);
+      out.write("}\n");
+    }
+  }
+
+  private void csv(BigDecimal value, boolean separator) throws IOException {
+    if (separator) {
+      out.write(',');
+    }
+    if (value != null) {
+      out.write(value.toPlainString());
+    }
+  }
+
+  private void csv(String value, boolean separator) throws IOException {
+    if (separator) {
+      out.write(',');
+    }
+    if (value == null || value.isEmpty()) {
+      return;
+    }
+    // A leading formula character would be evaluated when the file is opened in a spreadsheet
+    char first = value.charAt(0);
+    boolean formula = first == '=' || first == '+' || first == '-' || first == '@';
+    boolean quote = formula;
+    for (int i = 0; i < value.length() && !quote; i++) {
+      char c = value.charAt(i);
+      quote = c == ',' || c == '"' || c == '\r' || c == '\n';
+    }
+    if (!quote) {
+      out.write(value);
+      return;
+    }
+    out.write('"');
+    if (formula) {
+      out.write('\'');
+    }
+    for (int i = 0; i < value.length(); i++) {
+      char c = value.charAt(i);
+      if (c == '"') {
+        out.write('"');
+      }
+      out.write(c);
+    }
+    out.write('"');
+  }
+
+  private void json(int field, BigDecimal value) throws IOException {
+    out.write(field == 0 ? "\"" : ",\"");
+    out.write(NAMES[field]);
+    out.write("\":");
+    out.write(value != null ? value.toPlainString() : "null");
+  }
+
+  private void json(int field, String value) throws IOException {
+    out.write(field == 0 ? "\"" : ",\"");
+    out.write(NAMES[field]);
+    out.write("\":");
+    if (value == null) {
+      out.write("null");
+      return;
+    }
+    out.write('"');
+    for (int i = 0; i < value.length(); i++) {
+      char c = value.charAt(i);
+      if (c == '"' || c == '\\') {
+        out.write('\\');
+        out.write(c);
+      } else if (c < 0x20) {
+        out.write("\\u00");
+        out.write(HEX[c >> 4]);
+        out.write(HEX[c & 0xF]);
+      } else {
+        out.write(c);
+      }
+    }
+    out.write('"');
+  }
+}
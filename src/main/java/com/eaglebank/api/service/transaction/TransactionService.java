@@ -1,14 +1,29 @@
 package com.eaglebank.api.service.transaction;
 
+import java.util.List;
+import java.util.function.Consumer;
+
+import com.eaglebank.api.dto.transaction.BatchTransactionRequest;
+import com.eaglebank.api.dto.transaction.CreateTransactionBatchResponse;
 import com.eaglebank.api.dto.transaction.CreateTransactionRequest;
 import com.eaglebank.api.dto.transaction.ListTransactionsResponse;
+import com.eaglebank.api.dto.transaction.TransactionCursor;
 import com.eaglebank.api.dto.transaction.TransactionResponse;
 
 public interface TransactionService {
 
   TransactionResponse createTransaction(String accountNumber, CreateTransactionRequest request, String userEmail);
+
+  TransactionResponse createTransaction(String accountNumber, CreateTransactionRequest request, String userEmail,
+      String idempotencyKey);
+
+  CreateTransactionBatchResponse createTransactions(List<BatchTransactionRequest> requests, String userEmail);
   
   ListTransactionsResponse getTransactionsForAccount(String accountNumber, String userEmail);
+
+  ListTransactionsResponse getTransactionsForAccount(String accountNumber, String userEmail, int limit, TransactionCursor cursor);
+
+  void forEachTransaction(String accountNumber, String userEmail, Consumer<TransactionResponse> action);
   
   TransactionResponse getTransactionById(String accountNumber, String transactionId, String userEmail);
 }
\ No newline at end of file
@@ -1,103 +1,245 @@
 package com.eaglebank.api.service.transaction;
 
 import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
-import java.util.Optional;
-import java.util.UUID;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import com.eaglebank.api.dto.account.BalanceResponse;
+import com.eaglebank.api.dto.transaction.BatchTransactionRequest;
+import com.eaglebank.api.dto.transaction.BatchTransactionResult;
+import com.eaglebank.api.dto.transaction.CreateTransactionBatchResponse;
 import com.eaglebank.api.dto.transaction.CreateTransactionRequest;
 import com.eaglebank.api.dto.transaction.ListTransactionsResponse;
+import com.eaglebank.api.dto.transaction.TransactionCursor;
 import com.eaglebank.api.dto.transaction.TransactionResponse;
+import com.eaglebank.api.exception.AccessForbiddenException;
+import com.eaglebank.api.exception.BalanceLimitExceededException;
+import com.eaglebank.api.exception.InsufficientFundsException;
+import com.eaglebank.api.exception.ResourceNotFoundException;
+import com.eaglebank.api.metrics.BusinessMetrics;
 import com.eaglebank.api.model.account.BankAccount;
 import com.eaglebank.api.model.transaction.Transaction;
 import com.eaglebank.api.model.transaction.TransactionType;
-import com.eaglebank.api.model.user.User;
 import com.eaglebank.api.repository.BankAccountRepository;
 import com.eaglebank.api.repository.TransactionRepository;
-import com.eaglebank.api.repository.UserRepository;
+import com.eaglebank.api.service.account.AccountAccessResolver;
+import com.eaglebank.api.service.account.AccountActivityEvent;
+import com.eaglebank.api.service.account.AccountCacheUpdater;
+import com.eaglebank.api.service.account.AccountLockManager;
+import com.eaglebank.api.service.id.IdGenerator;
+import com.eaglebank.api.service.ledger.LedgerService;
+import com.eaglebank.api.service.outbox.OutboxService;
+import com.eaglebank.api.service.statement.StatementService;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
 
 @Service
 public class TransactionServiceImpl implements TransactionService {
 
+  private static final BigDecimal MAX_BALANCE = new BigDecimal(BankAccount.MAX_BALANCE);
+
   @Autowired private TransactionRepository transactionRepository;
   @Autowired private BankAccountRepository bankAccountRepository;
-  @Autowired private UserRepository userRepository;
+  @Autowired private AccountAccessResolver accountAccessResolver;
+  @Autowired private AccountCacheUpdater accountCacheUpdater;
+  @Autowired private AccountLockManager accountLockManager;
+  @Autowired private TransactionTemplate transactionTemplate;
+  @Autowired private LedgerService ledgerService;
+  @Autowired private IdempotencyStore idempotencyStore;
+  @Autowired private IdGenerator idGenerator;
+  @Autowired private BusinessMetrics businessMetrics;
+  @Autowired private OutboxService outboxService;
+  @Autowired private ApplicationEventPublisher eventPublisher;
+  @Autowired private StatementService statementService;
+  @PersistenceContext private EntityManager entityManager;
 
   @Override
-  @Transactional
   public TransactionResponse createTransaction(String accountNumber, CreateTransactionRequest request, String userEmail) {
-    // Verify account exists and belongs to user
-    Optional<BankAccount> accountOpt = bankAccountRepository.findByAccountNumberAndUserEmail(accountNumber, userEmail);
-    
-    if (accountOpt.isEmpty()) {
-      if (bankAccountRepository.existsByAccountNumber(accountNumber)) {
-        throw new SecurityException("Account does not belong to authenticated user");
-      } else {
-        throw new IllegalArgumentException("Account not found");
-      }
+    // The lock must span the commit, otherwise the next writer can still read the old balance
+    TransactionResponse response = accountLockManager.withAccountLock(accountNumber,
+        () -> transactionTemplate.execute(status -> applyTransaction(accountNumber, request, userEmail)));
+    businessMetrics.transactionCreated(response.getType());
+    return response;
+  }
+
+  @Override
+  public TransactionResponse createTransaction(String accountNumber, CreateTransactionRequest request, String userEmail,
+      String idempotencyKey) {
+    if (idempotencyKey == null) {
+      return createTransaction(accountNumber, request, userEmail);
     }
-    
-    BankAccount account = accountOpt.get();
+    // Keys are scoped to the caller and account, so two clients picking the same key never collide
+    String key = userEmail + "|" + accountNumber + "|" + idempotencyKey;
+    return idempotencyStore.execute(key, fingerprint(request),
+        () -> createTransaction(accountNumber, request, userEmail));
+  }
+
+  private static String fingerprint(CreateTransactionRequest request) {
+    return request.getAmount().stripTrailingZeros().toPlainString() + "|" + request.getCurrency()
+        + "|" + request.getType() + "|" + request.getReference();
+  }
+
+  private TransactionResponse applyTransaction(String accountNumber, CreateTransactionRequest request, String userEmail) {
+    // Verify account exists and belongs to user
+    BankAccount account = accountAccessResolver.resolve(accountNumber, userEmail);
     
     // Get user ID for transaction
-    User user = userRepository.findByEmail(userEmail)
-        .orElseThrow(() -> new IllegalArgumentException("User not found"));
+    String userId = accountAccessResolver.resolveUserId(userEmail);
     
     // Validate transaction
     if (request.getType() == TransactionType.withdrawal) {
       if (account.getBalance().compareTo(request.getAmount()) < 0) {
-        throw new IllegalArgumentException("Insufficient funds");
+        throw new InsufficientFundsException();
       }
+    } else if (exceedsMaxBalance(account, request.getAmount())) {
+      throw new BalanceLimitExceededException();
     }
     
-    // Generate transaction ID in format tan-[A-Za-z0-9]+
-    String transactionId = "tan-" + UUID.randomUUID().toString().replace("-", "").substring(0, 8);
-    
     // Create transaction
+    Transaction transaction = newTransaction(accountNumber, request, userId);
+    
+    // Update account balance and append the transaction to the account journal
+    ledgerService.post(account, transaction);
+    
+    // Save both transaction and updated account. The id is assigned up front, so save() would
+    // merge and select the row before inserting it.
+    entityManager.persist(transaction);
+    outboxService.transactionCreated(transaction);
+    statementService.recordTransactions(List.of(transaction));
+    bankAccountRepository.save(account);
+    accountCacheUpdater.accountChanged(account);
+    
+    TransactionResponse response = new TransactionResponse(transaction);
+    publishActivity(transaction, response);
+    return response;
+  }
+
+  @Override
+  public CreateTransactionBatchResponse createTransactions(List<BatchTransactionRequest> requests, String userEmail) {
+    Set<String> accountNumbers = new TreeSet<>();
+    for (BatchTransactionRequest request : requests) {
+      accountNumbers.add(request.getAccountNumber());
+    }
+
+    // Every account in the batch stays locked until the whole batch has committed
+    CreateTransactionBatchResponse response = accountLockManager.withAccountLocks(accountNumbers,
+        () -> transactionTemplate.execute(status -> applyTransactions(accountNumbers, requests, userEmail)));
+    for (BatchTransactionResult result : response.getResults()) {
+      if (result.getTransaction() != null) {
+        businessMetrics.transactionCreated(result.getTransaction().getType());
+      }
+    }
+    return response;
+  }
+
+  private CreateTransactionBatchResponse applyTransactions(Set<String> accountNumbers,
+      List<BatchTransactionRequest> requests, String userEmail) {
+    // One lookup for all accounts, however many items the batch holds; the user id comes from the cache
+    String userId = accountAccessResolver.resolveUserId(userEmail);
+    Map<String, BankAccount> accounts = new HashMap<>();
+    for (BankAccount account : bankAccountRepository.findAllById(accountNumbers)) {
+      accounts.put(account.getAccountNumber(), account);
+    }
+
+    List<BatchTransactionResult> results = new ArrayList<>(requests.size());
+    Map<String, BankAccount> touchedAccounts = new HashMap<>();
+    List<Transaction> created = new ArrayList<>();
+
+    // Items are applied in request order, so a later withdrawal can spend an earlier deposit
+    for (int i = 0; i < requests.size(); i++) {
+      BatchTransactionRequest request = requests.get(i);
+      BankAccount account = accounts.get(request.getAccountNumber());
+
+      if (account == null) {
+        businessMetrics.rejected(ResourceNotFoundException.class);
+        results.add(BatchTransactionResult.failed(i, 404, "Bank account was not found"));
+        continue;
+      }
+      if (!account.getUserEmail().equals(userEmail)) {
+        businessMetrics.rejected(AccessForbiddenException.class);
+        results.add(BatchTransactionResult.failed(i, 403, "The user is not allowed to access the transaction"));
+        continue;
+      }
+      if (request.getType() == TransactionType.withdrawal && account.getBalance().compareTo(request.getAmount()) < 0) {
+        businessMetrics.rejected(InsufficientFundsException.class);
+        results.add(BatchTransactionResult.failed(i, 422, "Insufficient funds to process transaction"));
+        continue;
+      }
+      // Checked per item: the account's @DecimalMax would otherwise fail the whole batch at flush
+      if (request.getType() == TransactionType.deposit && exceedsMaxBalance(account, request.getAmount())) {
+        businessMetrics.rejected(BalanceLimitExceededException.class);
+        results.add(BatchTransactionResult.failed(i, 422, "Deposit would take the balance above " + BankAccount.MAX_BALANCE));
+        continue;
+      }
+
+      Transaction transaction = newTransaction(account.getAccountNumber(), request, userId);
+      ledgerService.post(account, transaction);
+
+      // Persisted directly, as in applyTransaction, so the inserts go out as JDBC batches at flush
+      entityManager.persist(transaction);
+      outboxService.transactionCreated(transaction);
+      created.add(transaction);
+      touchedAccounts.put(account.getAccountNumber(), account);
+      TransactionResponse response = new TransactionResponse(transaction);
+      publishActivity(transaction, response);
+      results.add(BatchTransactionResult.created(i, response));
+    }
+
+    statementService.recordTransactions(created);
+    bankAccountRepository.saveAll(touchedAccounts.values());
+    for (BankAccount account : touchedAccounts.values()) {
+      accountCacheUpdater.accountChanged(account);
+    }
+    return new CreateTransactionBatchResponse(results);
+  }
+
+  private static boolean exceedsMaxBalance(BankAccount account, BigDecimal amount) {
+    return account.getBalance().add(amount).compareTo(MAX_BALANCE) > 0;
+  }
+
+  // Live subscribers receive this once the surrounding database transaction commits
+  private void publishActivity(Transaction transaction, TransactionResponse response) {
+    BalanceResponse balance = new BalanceResponse(transaction.getAccountNumber(), transaction.getBalanceAfter(),
+        transaction.getCurrency(), transaction.getCreatedTimestamp());
+    eventPublisher.publishEvent(new AccountActivityEvent(transaction.getAccountNumber(), response, balance));
+  }
+
+  private Transaction newTransaction(String accountNumber, CreateTransactionRequest request, String userId) {
+    // Generate transaction ID in format tan-[A-Za-z0-9]+, ordered by creation time
+    String transactionId = idGenerator.nextTransactionId();
+
     Transaction transaction = new Transaction();
     transaction.setId(transactionId);
     transaction.setAmount(request.getAmount());
     transaction.setCurrency(request.getCurrency());
     transaction.setType(request.getType());
     transaction.setReference(request.getReference());
-    transaction.setUserId(user.getId());
+    transaction.setUserId(userId);
     transaction.setAccountNumber(accountNumber);
-    
-    // Update account balance
-    BigDecimal newBalance;
-    if (request.getType() == TransactionType.deposit) {
-      newBalance = account.getBalance().add(request.getAmount());
-    } else {
-      newBalance = account.getBalance().subtract(request.getAmount());
-    }
-    account.setBalance(newBalance);
-    
-    // Save both transaction and updated account
-    Transaction savedTransaction = transactionRepository.save(transaction);
-    bankAccountRepository.save(account);
-    
-    return new TransactionResponse(savedTransaction);
+    return transaction;
   }
 
   @Override
   public ListTransactionsResponse getTransactionsForAccount(String accountNumber, String userEmail) {
     // Verify account exists and belongs to user
-    Optional<BankAccount> accountOpt = bankAccountRepository.findByAccountNumberAndUserEmail(accountNumber, userEmail);
+    accountAccessResolver.resolveForRead(accountNumber, userEmail);
     
-    if (accountOpt.isEmpty()) {
-      if (bankAccountRepository.existsByAccountNumber(accountNumber)) {
-        throw new SecurityException("Account does not belong to authenticated user");
-      } else {
-        throw new IllegalArgumentException("Account not found");
-      }
-    }
-    
-    List<Transaction> transactions = transactionRepository.findByAccountNumberOrderByCreatedTimestampDesc(accountNumber);
+    List<Transaction> transactions = transactionRepository.findByAccountNumberOrderByCreatedTimestampDescIdDesc(accountNumber);
     List<TransactionResponse> transactionResponses = transactions.stream()
         .map(TransactionResponse::new)
         .collect(Collectors.toList());
@@ -105,26 +247,51 @@ public class TransactionServiceImpl implements TransactionService {
     return new ListTransactionsResponse(transactionResponses);
   }
 
+  @Override
+  public ListTransactionsResponse getTransactionsForAccount(String accountNumber, String userEmail, int limit, TransactionCursor cursor) {
+    accountAccessResolver.resolveForRead(accountNumber, userEmail);
+
+    // Fetch one extra row to find out whether another page follows
+    PageRequest page = PageRequest.of(0, limit + 1);
+    List<Transaction> transactions = cursor == null
+        ? transactionRepository.findByAccountNumberOrderByCreatedTimestampDescIdDesc(accountNumber, page)
+        : transactionRepository.findPageAfter(accountNumber, cursor.getCreatedTimestamp(), cursor.getId(), page);
+
+    boolean hasMore = transactions.size() > limit;
+    List<Transaction> pageItems = hasMore ? transactions.subList(0, limit) : transactions;
+    List<TransactionResponse> transactionResponses = pageItems.stream()
+        .map(TransactionResponse::new)
+        .collect(Collectors.toList());
+    String nextCursor = hasMore ? TransactionCursor.from(pageItems.get(limit - 1)).encode() : null;
+
+    return new ListTransactionsResponse(transactionResponses, nextCursor);
+  }
+
+  @Override
+  @Transactional(readOnly = true)
+  public void forEachTransaction(String accountNumber, String userEmail, Consumer<TransactionResponse> action) {
+    // Access is checked before the first callback so callers can still report 403/404
+    accountAccessResolver.resolveForRead(accountNumber, userEmail);
+
+    try (Stream<Transaction> transactions = transactionRepository.streamByAccountNumber(accountNumber)) {
+      transactions.forEach(transaction -> {
+        action.accept(new TransactionResponse(transaction));
+        // Keep the persistence context from growing with the history
+        entityManager.detach(transaction);
+      });
+    }
+  }
+
   @Override
   public TransactionResponse getTransactionById(String accountNumber, String transactionId, String userEmail) {
     // Verify account exists and belongs to user
-    Optional<BankAccount> accountOpt = bankAccountRepository.findByAccountNumberAndUserEmail(accountNumber, userEmail);
-    
-    if (accountOpt.isEmpty()) {
-      if (bankAccountRepository.existsByAccountNumber(accountNumber)) {
-        throw new SecurityException("Account does not belong to authenticated user");
-      } else {
-        throw new IllegalArgumentException("Account not found");
-      }
-    }
+    accountAccessResolver.resolveForRead(accountNumber, userEmail);
     
     // Find transaction
-    Optional<Transaction> transactionOpt = transactionRepository.findByIdAndAccountNumber(transactionId, accountNumber);
-    
-    if (transactionOpt.isEmpty()) {
-      throw new IllegalArgumentException("Transaction not found");
-    }
+    Transaction transaction = transactionRepository.findByIdAndAccountNumber(transactionId, accountNumber)
+        .orElseThrow(() -> new ResourceNotFoundException("Transaction not found"));
     
-    return new TransactionResponse(transactionOpt.get());
+    return new TransactionResponse(transaction);
   }
+
 }
\ No newline at end of file
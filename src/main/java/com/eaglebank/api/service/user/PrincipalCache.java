@@ -0,0 +1,67 @@
+package com.eaglebank.api.service.user;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.eaglebank.api.model.user.AuthenticatedUser;
+import com.eaglebank.api.model.user.User;
+import com.eaglebank.api.repository.UserRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+@Component
+public class PrincipalCache {
+
+  @Autowired private UserRepository userRepository;
+
+  private final Cache<String, AuthenticatedUser> principals;
+  // Bumped by every invalidate, so a load that overlapped one is returned but not cached
+  private final AtomicLong generation = new AtomicLong();
+
+  public PrincipalCache(
+      @Value("${eaglebank.principal-cache.ttl:5m}") Duration ttl,
+      @Value("${eaglebank.principal-cache.max-size:10000}") long maxSize) {
+    this.principals = Caffeine.newBuilder()
+        .expireAfterWrite(ttl)
+        .maximumSize(maxSize)
+        .build();
+  }
+
+  public AuthenticatedUser get(String email) {
+    AuthenticatedUser cached = principals.getIfPresent(email);
+    if (cached != null) {
+      return cached;
+    }
+
+    // Loaded outside the cache's compute, which holds a monitor and would pin a virtual thread's
+    // carrier for the whole query. Two concurrent misses may both load; the result is the same.
+    // Unknown emails are not cached, so a newly created user is visible immediately.
+    long loadedAt = generation.get();
+    AuthenticatedUser loaded = load(email)
+        .map(AuthenticatedUser::new)
+        .orElse(null);
+    if (loaded != null) {
+      // The generation is checked under the entry's lock, so an invalidate either lands before
+      // the check and skips the put, or after it and removes what was put
+      principals.asMap().compute(email,
+          (key, current) -> generation.get() == loadedAt ? loaded : current);
+    }
+    return loaded;
+  }
+
+  public void invalidate(String email) {
+    if (email != null) {
+      generation.incrementAndGet();
+      principals.invalidate(email);
+    }
+  }
+
+  Optional<User> load(String email) {
+    return userRepository.findByEmail(email);
+  }
+}
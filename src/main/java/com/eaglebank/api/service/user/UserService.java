@@ -3,6 +3,7 @@ package com.eaglebank.api.service.user;
 import com.eaglebank.api.dto.user.CreateUserRequest;
 import com.eaglebank.api.dto.user.UpdateUserRequest;
 import com.eaglebank.api.dto.user.UserResponse;
+import com.eaglebank.api.model.user.AuthenticatedUser;
 import com.eaglebank.api.model.user.User;
 
 public interface UserService {
@@ -13,6 +14,8 @@ public interface UserService {
   
   User getUserByEmail(String email);
 
+  AuthenticatedUser getAuthenticatedUser(String email);
+
   UserResponse updateUser(String userId, UpdateUserRequest request);
   
   void deleteUser(String userId);
@@ -4,22 +4,27 @@ import java.util.Optional;
 import java.util.UUID;
 
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
 
 import com.eaglebank.api.dto.user.CreateUserRequest;
 import com.eaglebank.api.dto.user.UpdateUserRequest;
 import com.eaglebank.api.dto.user.UserResponse;
+import com.eaglebank.api.exception.ResourceConflictException;
+import com.eaglebank.api.exception.ResourceNotFoundException;
+import com.eaglebank.api.model.user.AuthenticatedUser;
 import com.eaglebank.api.model.user.User;
 import com.eaglebank.api.repository.BankAccountRepository;
 import com.eaglebank.api.repository.UserRepository;
+import com.eaglebank.api.service.password.PasswordHashingService;
 
 @Service
 public class UserServiceImpl implements UserService {
 
   @Autowired private UserRepository userRepository;
   @Autowired private BankAccountRepository bankAccountRepository;
-  @Autowired private BCryptPasswordEncoder passwordEncoder;
+  @Autowired private PasswordHashingService passwordHashingService;
+  @Autowired private PrincipalCache principalCache;
 
   @Override
   public UserResponse createUser(CreateUserRequest request) {
@@ -34,10 +39,10 @@ public class UserServiceImpl implements UserService {
     user.setEmail(request.getEmail());
     
     // Hash the password before saving
-    String hashedPassword = passwordEncoder.encode(request.getPassword());
+    String hashedPassword = passwordHashingService.encode(request.getPassword());
     user.setPasswordHash(hashedPassword);
     
-    User savedUser = userRepository.save(user);
+    User savedUser = saveUser(user);
     return new UserResponse(savedUser);
   }
 
@@ -54,10 +59,16 @@ public class UserServiceImpl implements UserService {
     return user.orElse(null);
   }
 
+  @Override
+  public AuthenticatedUser getAuthenticatedUser(String email) {
+    return principalCache.get(email);
+  }
+
   @Override
   public UserResponse updateUser(String userId, UpdateUserRequest request) {
     return userRepository.findById(userId)
         .map(existingUser -> {
+          String previousEmail = existingUser.getEmail();
           if (request.getName() != null) {
             existingUser.setName(request.getName());
           }
@@ -71,7 +82,9 @@ public class UserServiceImpl implements UserService {
             existingUser.setEmail(request.getEmail());
           }
           
-          userRepository.save(existingUser);
+          saveUser(existingUser);
+          principalCache.invalidate(previousEmail);
+          principalCache.invalidate(existingUser.getEmail());
           return new UserResponse(existingUser);
         })
         .orElse(null);
@@ -82,7 +95,7 @@ public class UserServiceImpl implements UserService {
     // First check if user exists
     Optional<User> userOptional = userRepository.findById(userId);
     if (userOptional.isEmpty()) {
-      throw new IllegalArgumentException("User not found");
+      throw new ResourceNotFoundException("User not found");
     }
     
     User user = userOptional.get();
@@ -90,10 +103,20 @@ public class UserServiceImpl implements UserService {
     // Check if user has any bank accounts
     boolean hasAccounts = bankAccountRepository.existsByUserEmail(user.getEmail());
     if (hasAccounts) {
-      throw new IllegalStateException("Cannot delete user: User has existing bank accounts");
+      throw new ResourceConflictException("Cannot delete user: User has existing bank accounts");
     }
     
     // If no bank accounts, proceed with deletion
     userRepository.deleteById(userId);
+    principalCache.invalidate(user.getEmail());
+  }
+
+  private User saveUser(User user) {
+    try {
+      return userRepository.save(user);
+    } catch (DataIntegrityViolationException e) {
+      // The only unique constraint on users besides the id is the email
+      throw new ResourceConflictException("A user with this email already exists");
+    }
   }
 }
@@ -0,0 +1,54 @@
+package com.eaglebank.api.utils;
+
+// Allocation-free checks for the identifier formats in the API spec. Equivalent to
+//   ^01\d{6}$, ^tan-[A-Za-z0-9]+$ and ^usr-[A-Za-z0-9]+$
+// without compiling or running a regex on every request.
+public final class IdentifierFormats {
+
+  private IdentifierFormats() {
+  }
+
+  public static boolean isAccountNumber(CharSequence value) {
+    if (value == null || value.length() != 8 || value.charAt(0) != '0' || value.charAt(1) != '1') {
+      return false;
+    }
+    for (int i = 2; i < 8; i++) {
+      if (!isAsciiDigit(value.charAt(i))) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  public static boolean isTransactionId(CharSequence value) {
+    return hasAlphanumericSuffix(value, "tan-");
+  }
+
+  public static boolean isUserId(CharSequence value) {
+    return hasAlphanumericSuffix(value, "usr-");
+  }
+
+  private static boolean hasAlphanumericSuffix(CharSequence value, String prefix) {
+    int prefixLength = prefix.length();
+    if (value == null || value.length() <= prefixLength) {
+      return false;
+    }
+    for (int i = 0; i < prefixLength; i++) {
+      if (value.charAt(i) != prefix.charAt(i)) {
+        return false;
+      }
+    }
+    for (int i = prefixLength; i < value.length(); i++) {
+      char c = value.charAt(i);
+      if (!isAsciiDigit(c) && !(c >= 'A' && c <= 'Z') && !(c >= 'a' && c <= 'z')) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  // Character.isDigit would also accept non-ASCII digits, which \d does not
+  private static boolean isAsciiDigit(char c) {
+    return c >= '0' && c <= '9';
+  }
+}
@@ -0,0 +1,25 @@
+package com.eaglebank.api.validation;
+
+import static java.lang.annotation.ElementType.FIELD;
+import static java.lang.annotation.ElementType.PARAMETER;
+import static java.lang.annotation.RetentionPolicy.RUNTIME;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.Retention;
+import java.lang.annotation.Target;
+
+import jakarta.validation.Constraint;
+import jakarta.validation.Payload;
+
+@Documented
+@Constraint(validatedBy = AccountNumberValidator.class)
+@Target({ PARAMETER, FIELD })
+@Retention(RUNTIME)
+public @interface AccountNumber {
+
+  String message() default "Invalid account number format";
+
+  Class<?>[] groups() default {};
+
+  Class<? extends Payload>[] payload() default {};
+}
@@ -0,0 +1,15 @@
+package com.eaglebank.api.validation;
+
+import com.eaglebank.api.utils.IdentifierFormats;
+
+import jakarta.validation.ConstraintValidator;
+import jakarta.validation.ConstraintValidatorContext;
+
+public class AccountNumberValidator implements ConstraintValidator<AccountNumber, String> {
+
+  @Override
+  public boolean isValid(String value, ConstraintValidatorContext context) {
+    // Null is left to @NotNull/@NotBlank, as with the built-in constraints
+    return value == null || IdentifierFormats.isAccountNumber(value);
+  }
+}
@@ -0,0 +1,25 @@
+package com.eaglebank.api.validation;
+
+import static java.lang.annotation.ElementType.FIELD;
+import static java.lang.annotation.ElementType.PARAMETER;
+import static java.lang.annotation.RetentionPolicy.RUNTIME;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.Retention;
+import java.lang.annotation.Target;
+
+import jakarta.validation.Constraint;
+import jakarta.validation.Payload;
+
+@Documented
+@Constraint(validatedBy = TransactionIdValidator.class)
+@Target({ PARAMETER, FIELD })
+@Retention(RUNTIME)
+public @interface TransactionId {
+
+  String message() default "Invalid transaction ID format";
+
+  Class<?>[] groups() default {};
+
+  Class<? extends Payload>[] payload() default {};
+}
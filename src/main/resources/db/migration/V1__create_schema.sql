@@ -0,0 +1,43 @@
+-- Baseline schema matching the JPA entity mappings
+
+CREATE TABLE users (
+  id VARCHAR(255) NOT NULL,
+  name VARCHAR(255) NOT NULL,
+  line1 VARCHAR(255),
+  line2 VARCHAR(255),
+  line3 VARCHAR(255),
+  town VARCHAR(255),
+  county VARCHAR(255),
+  postcode VARCHAR(255),
+  phone_number VARCHAR(255) NOT NULL,
+  email VARCHAR(255) NOT NULL,
+  password_hash VARCHAR(255) NOT NULL,
+  created_timestamp TIMESTAMP(6),
+  updated_timestamp TIMESTAMP(6),
+  PRIMARY KEY (id)
+);
+
+CREATE TABLE bank_accounts (
+  account_number VARCHAR(255) NOT NULL,
+  sort_code VARCHAR(255) NOT NULL,
+  name VARCHAR(255) NOT NULL,
+  account_type VARCHAR(255) NOT NULL CHECK (account_type IN ('SAVINGS', 'CURRENT')),
+  balance NUMERIC(38, 2) NOT NULL,
+  currency VARCHAR(255) NOT NULL,
+  user_email VARCHAR(255) NOT NULL,
+  created_timestamp TIMESTAMP(6),
+  updated_timestamp TIMESTAMP(6),
+  PRIMARY KEY (account_number)
+);
+
+CREATE TABLE transactions (
+  id VARCHAR(255) NOT NULL,
+  amount NUMERIC(38, 2) NOT NULL,
+  currency VARCHAR(255) NOT NULL,
+  type VARCHAR(255) NOT NULL CHECK (type IN ('deposit', 'withdrawal')),
+  reference VARCHAR(255),
+  user_id VARCHAR(255) NOT NULL,
+  account_number VARCHAR(255) NOT NULL,
+  created_timestamp TIMESTAMP(6),
+  PRIMARY KEY (id)
+);
@@ -0,0 +1,8 @@
+-- Transaction history listing and keyset pagination (newest first), plus existsByAccountNumber
+CREATE INDEX idx_transactions_account_created ON transactions (account_number, created_timestamp DESC, id DESC);
+
+-- findByUserEmail / existsByUserEmail
+CREATE INDEX idx_bank_accounts_user_email ON bank_accounts (user_email);
+
+-- findByEmail / existsByEmail, and one user per email
+CREATE UNIQUE INDEX uk_users_email ON users (email);
@@ -0,0 +1,35 @@
+-- Journal position and running balance for every transaction
+ALTER TABLE bank_accounts ADD COLUMN last_sequence_number BIGINT DEFAULT 0 NOT NULL;
+ALTER TABLE transactions ADD COLUMN sequence_number BIGINT;
+ALTER TABLE transactions ADD COLUMN balance_after NUMERIC(38, 2);
+
+-- Backfill existing history in creation order
+UPDATE transactions t SET sequence_number = (
+  SELECT COUNT(*) FROM transactions p
+  WHERE p.account_number = t.account_number
+    AND (p.created_timestamp < t.created_timestamp
+      OR (p.created_timestamp = t.created_timestamp AND p.id <= t.id)));
+
+UPDATE transactions t SET balance_after = (
+  SELECT SUM(CASE WHEN p.type = 'deposit' THEN p.amount ELSE -p.amount END) FROM transactions p
+  WHERE p.account_number = t.account_number
+    AND p.sequence_number <= t.sequence_number);
+
+UPDATE bank_accounts a SET last_sequence_number = (
+  SELECT COALESCE(MAX(t.sequence_number), 0) FROM transactions t
+  WHERE t.account_number = a.account_number);
+
+CREATE UNIQUE INDEX uk_transactions_account_sequence ON transactions (account_number, sequence_number);
+
+-- Periodic balance checkpoints; verified_timestamp is set once the reconciler has replayed up to them
+CREATE TABLE balance_snapshots (
+  id VARCHAR(255) NOT NULL,
+  account_number VARCHAR(255) NOT NULL,
+  sequence_number BIGINT NOT NULL,
+  balance NUMERIC(38, 2) NOT NULL,
+  created_timestamp TIMESTAMP(6),
+  verified_timestamp TIMESTAMP(6),
+  PRIMARY KEY (id)
+);
+
+CREATE UNIQUE INDEX uk_balance_snapshots_account_sequence ON balance_snapshots (account_number, sequence_number);
@@ -0,0 +1,2 @@
+-- Account numbers are handed out in blocks of 100 from this sequence, one round trip per block
+CREATE SEQUENCE account_number_seq START WITH 1 INCREMENT BY 100;
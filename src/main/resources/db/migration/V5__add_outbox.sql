@@ -0,0 +1,15 @@
+-- Events written in the same database transaction as the change they describe, deleted once published
+CREATE SEQUENCE outbox_event_seq START WITH 1 INCREMENT BY 50;
+
+CREATE TABLE outbox_events (
+  id BIGINT NOT NULL,
+  event_type VARCHAR(255) NOT NULL,
+  aggregate_id VARCHAR(255) NOT NULL,
+  payload VARCHAR(4000) NOT NULL,
+  created_timestamp TIMESTAMP(6) NOT NULL,
+  attempts INTEGER DEFAULT 0 NOT NULL,
+  next_attempt_timestamp TIMESTAMP(6) NOT NULL,
+  PRIMARY KEY (id)
+);
+
+CREATE INDEX idx_outbox_events_next_attempt ON outbox_events (next_attempt_timestamp, id);
@@ -0,0 +1,32 @@
+-- Deposit and withdrawal totals per account per day and per month, maintained as transactions are created
+CREATE TABLE account_period_totals (
+  id VARCHAR(255) NOT NULL,
+  account_number VARCHAR(255) NOT NULL,
+  period_type VARCHAR(255) NOT NULL CHECK (period_type IN ('DAY', 'MONTH')),
+  period_start DATE NOT NULL,
+  deposit_total NUMERIC(38, 2) NOT NULL,
+  deposit_count BIGINT NOT NULL,
+  withdrawal_total NUMERIC(38, 2) NOT NULL,
+  withdrawal_count BIGINT NOT NULL,
+  PRIMARY KEY (id)
+);
+
+CREATE UNIQUE INDEX uk_account_period_totals_period ON account_period_totals (account_number, period_type, period_start);
+
+-- Backfill from the existing history
+INSERT INTO account_period_totals (id, account_number, period_type, period_start,
+    deposit_total, deposit_count, withdrawal_total, withdrawal_count)
+SELECT account_number || '-DAY-' || CAST(period_start AS VARCHAR), account_number, 'DAY', period_start,
+    SUM(CASE WHEN type = 'deposit' THEN amount ELSE 0 END), SUM(CASE WHEN type = 'deposit' THEN 1 ELSE 0 END),
+    SUM(CASE WHEN type = 'withdrawal' THEN amount ELSE 0 END), SUM(CASE WHEN type = 'withdrawal' THEN 1 ELSE 0 END)
+FROM (SELECT account_number, type, amount, CAST(created_timestamp AS DATE) AS period_start FROM transactions) t
+GROUP BY account_number, period_start;
+
+INSERT INTO account_period_totals (id, account_number, period_type, period_start,
+    deposit_total, deposit_count, withdrawal_total, withdrawal_count)
+SELECT account_number || '-MONTH-' || CAST(period_start AS VARCHAR), account_number, 'MONTH', period_start,
+    SUM(CASE WHEN type = 'deposit' THEN amount ELSE 0 END), SUM(CASE WHEN type = 'deposit' THEN 1 ELSE 0 END),
+    SUM(CASE WHEN type = 'withdrawal' THEN amount ELSE 0 END), SUM(CASE WHEN type = 'withdrawal' THEN 1 ELSE 0 END)
+FROM (SELECT account_number, type, amount, CAST(DATE_TRUNC('MONTH', created_timestamp) AS DATE) AS period_start
+    FROM transactions) t
+GROUP BY account_number, period_start;
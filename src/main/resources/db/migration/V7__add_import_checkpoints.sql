@@ -0,0 +1,10 @@
+-- Progress of bulk transaction imports, committed with each chunk so an import can resume where it stopped
+CREATE TABLE import_checkpoints (
+  id VARCHAR(255) NOT NULL,
+  lines_processed BIGINT NOT NULL,
+  imported_count BIGINT NOT NULL,
+  rejected_count BIGINT NOT NULL,
+  created_timestamp TIMESTAMP(6),
+  updated_timestamp TIMESTAMP(6),
+  PRIMARY KEY (id)
+);
@@ -0,0 +1,2 @@
+-- findAccountNumbersUpdatedSince, polled by the ledger reconciler
+CREATE INDEX idx_bank_accounts_updated ON bank_accounts (updated_timestamp);
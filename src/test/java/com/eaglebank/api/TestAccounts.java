@@ -0,0 +1,33 @@
+package com.eaglebank.api;
+
+import java.util.UUID;
+
+import com.eaglebank.api.dto.account.CreateBankAccountRequest;
+import com.eaglebank.api.dto.user.CreateUserRequest;
+import com.eaglebank.api.model.account.BankAccountType;
+import com.eaglebank.api.model.user.Address;
+import com.eaglebank.api.service.account.BankAccountService;
+import com.eaglebank.api.service.user.UserService;
+
+// Shared fixture for tests that need a user with an account; every call creates a new, unique user
+public final class TestAccounts {
+
+	private TestAccounts() {
+	}
+
+	// Returns the new user's email
+	public static String user(UserService userService) {
+		String email = "test-" + UUID.randomUUID() + "@example.com";
+		CreateUserRequest request = new CreateUserRequest("Test User",
+				new Address("1 Test Street", null, null, "London", "Greater London", "E1 1AA"), "+447700900000", email);
+		request.setPassword("password123");
+		userService.createUser(request);
+		return email;
+	}
+
+	// Returns the new account's number
+	public static String account(BankAccountService bankAccountService, String email) {
+		return bankAccountService.createBankAccount(
+				new CreateBankAccountRequest("Test Account", BankAccountType.CURRENT), email).getAccountNumber();
+	}
+}
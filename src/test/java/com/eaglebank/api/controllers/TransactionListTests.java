@@ -0,0 +1,124 @@
+package com.eaglebank.api.controllers;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+
+import com.eaglebank.api.TestAccounts;
+import com.eaglebank.api.dto.transaction.CreateTransactionRequest;
+import com.eaglebank.api.dto.transaction.ListTransactionsResponse;
+import com.eaglebank.api.dto.transaction.TransactionResponse;
+import com.eaglebank.api.model.transaction.Transaction;
+import com.eaglebank.api.model.transaction.TransactionType;
+import com.eaglebank.api.service.account.BankAccountService;
+import com.eaglebank.api.service.jwt.JwtService;
+import com.eaglebank.api.service.transaction.TransactionService;
+import com.eaglebank.api.service.user.UserService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import jakarta.persistence.EntityManagerFactory;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+class TransactionListTests {
+
+	@Autowired private MockMvc mockMvc;
+	@Autowired private ObjectMapper objectMapper;
+	@Autowired private JwtService jwtService;
+	@Autowired private TransactionService transactionService;
+	@Autowired private BankAccountService bankAccountService;
+	@Autowired private UserService userService;
+	@Autowired private JdbcTemplate jdbcTemplate;
+	@Autowired private EntityManagerFactory entityManagerFactory;
+
+	@Test
+	void pagesBreakTimestampTiesByIdAndTheLastPageHasNoCursor() throws Exception {
+		String email = TestAccounts.user(userService);
+		String accountNumber = TestAccounts.account(bankAccountService, email);
+		List<String> expected = createTiedTransactions(accountNumber, email, 4);
+
+		List<String> listed = new ArrayList<>();
+		List<String> cursors = new ArrayList<>();
+		String cursor = null;
+		do {
+			MockHttpServletRequestBuilder request = list(accountNumber, email).param("limit", "2");
+			if (cursor != null) {
+				request.param("cursor", cursor);
+			}
+			ListTransactionsResponse page = read(request);
+			page.getTransactions().forEach(transaction -> listed.add(transaction.getId()));
+			cursor = page.getNextCursor();
+			cursors.add(cursor);
+		} while (cursor != null);
+
+		assertThat(listed).containsExactlyElementsOf(expected);
+		assertThat(cursors).hasSize(2).last().isNull();
+	}
+
+	@Test
+	void invalidCursorIsRejected() throws Exception {
+		String email = TestAccounts.user(userService);
+		String accountNumber = TestAccounts.account(bankAccountService, email);
+
+		mockMvc.perform(list(accountNumber, email).param("cursor", "not a cursor"))
+				.andExpect(status().isBadRequest());
+	}
+
+	@Test
+	void streamedListMatchesTheUnpagedList() throws Exception {
+		String email = TestAccounts.user(userService);
+		String accountNumber = TestAccounts.account(bankAccountService, email);
+		createTiedTransactions(accountNumber, email, 3);
+		transactionService.createTransaction(accountNumber,
+				new CreateTransactionRequest(new BigDecimal("1.00"), "GBP", TransactionType.deposit, "latest"), email);
+
+		String unpaged = mockMvc.perform(list(accountNumber, email))
+				.andExpect(status().isOk()).andReturn().getResponse().getContentAsString();
+		String streamed = mockMvc.perform(list(accountNumber, email).param("stream", "true"))
+				.andExpect(status().isOk()).andReturn().getResponse().getContentAsString();
+
+		assertThat(objectMapper.readTree(unpaged).get("transactions")).hasSize(4);
+		assertThat(objectMapper.readTree(streamed)).isEqualTo(objectMapper.readTree(unpaged));
+	}
+
+	// Creates deposits that all share one createdTimestamp; returns their ids in listing order
+	private List<String> createTiedTransactions(String accountNumber, String email, int count) {
+		List<String> ids = new ArrayList<>();
+		for (int i = 0; i < count; i++) {
+			TransactionResponse transaction = transactionService.createTransaction(accountNumber,
+					new CreateTransactionRequest(new BigDecimal("10.00"), "GBP", TransactionType.deposit, "tied"), email);
+			ids.add(transaction.getId());
+		}
+		jdbcTemplate.update("UPDATE transactions SET created_timestamp = ? WHERE account_number = ?",
+				Timestamp.valueOf(LocalDateTime.now().minusDays(1)), accountNumber);
+		entityManagerFactory.getCache().evict(Transaction.class);
+		ids.sort(Comparator.reverseOrder());
+		return ids;
+	}
+
+	private MockHttpServletRequestBuilder list(String accountNumber, String email) {
+		return get("/v1/accounts/{accountNumber}/transactions", accountNumber)
+				.header(HttpHeaders.AUTHORIZATION, "Bearer " + jwtService.generateToken(email));
+	}
+
+	private ListTransactionsResponse read(MockHttpServletRequestBuilder request) throws Exception {
+		String body = mockMvc.perform(request).andExpect(status().isOk()).andReturn().getResponse().getContentAsString();
+		return objectMapper.readValue(body, ListTransactionsResponse.class);
+	}
+}
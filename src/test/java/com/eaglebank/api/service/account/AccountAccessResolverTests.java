@@ -0,0 +1,86 @@
+package com.eaglebank.api.service.account;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import com.eaglebank.api.TestAccounts;
+import com.eaglebank.api.exception.AccessForbiddenException;
+import com.eaglebank.api.exception.ResourceNotFoundException;
+import com.eaglebank.api.metrics.QueryCounter;
+import com.eaglebank.api.model.account.BankAccount;
+import com.eaglebank.api.service.user.UserService;
+
+import jakarta.persistence.EntityManagerFactory;
+
+@SpringBootTest
+class AccountAccessResolverTests {
+
+	@Autowired private BankAccountService bankAccountService;
+	@Autowired private UserService userService;
+	@Autowired private QueryCounter queryCounter;
+	@Autowired private AccountCache accountCache;
+	@Autowired private EntityManagerFactory entityManagerFactory;
+
+	@AfterEach
+	void stopCounting() {
+		queryCounter.stop();
+	}
+
+	@Test
+	void ownedAccountIsResolvedWithOneQuery() {
+		String email = TestAccounts.user(userService);
+		String accountNumber = TestAccounts.account(bankAccountService, email);
+		evictCaches(accountNumber);
+
+		queryCounter.start();
+		bankAccountService.getBankAccountByAccountNumber(accountNumber, email);
+
+		assertThat(queryCounter.count()).isEqualTo(1);
+	}
+
+	@Test
+	void cachedAccountIsResolvedWithoutQueries() {
+		String email = TestAccounts.user(userService);
+		String accountNumber = TestAccounts.account(bankAccountService, email);
+		bankAccountService.getBankAccountByAccountNumber(accountNumber, email);
+
+		queryCounter.start();
+		bankAccountService.getBankAccountByAccountNumber(accountNumber, email);
+
+		assertThat(queryCounter.count()).isZero();
+	}
+
+	@Test
+	void foreignAccountIsRejectedWithOneQuery() {
+		String accountNumber = TestAccounts.account(bankAccountService, TestAccounts.user(userService));
+		String otherEmail = TestAccounts.user(userService);
+		evictCaches(accountNumber);
+
+		queryCounter.start();
+		assertThatThrownBy(() -> bankAccountService.getBankAccountByAccountNumber(accountNumber, otherEmail))
+				.isInstanceOf(AccessForbiddenException.class);
+
+		assertThat(queryCounter.count()).isEqualTo(1);
+	}
+
+	@Test
+	void missingAccountIsRejectedWithOneQuery() {
+		String email = TestAccounts.user(userService);
+
+		queryCounter.start();
+		assertThatThrownBy(() -> bankAccountService.getBankAccountByAccountNumber("01000000", email))
+				.isInstanceOf(ResourceNotFoundException.class);
+
+		assertThat(queryCounter.count()).isEqualTo(1);
+	}
+
+	private void evictCaches(String accountNumber) {
+		accountCache.evictAccount(accountNumber);
+		entityManagerFactory.getCache().evict(BankAccount.class, accountNumber);
+	}
+}
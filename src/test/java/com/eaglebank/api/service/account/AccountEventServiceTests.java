@@ -0,0 +1,115 @@
+package com.eaglebank.api.service.account;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Primary;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import com.eaglebank.api.TestAccounts;
+import com.eaglebank.api.dto.transaction.CreateTransactionRequest;
+import com.eaglebank.api.model.transaction.TransactionType;
+import com.eaglebank.api.service.transaction.TransactionService;
+import com.eaglebank.api.service.user.UserService;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+@SpringBootTest
+class AccountEventServiceTests {
+
+	@Autowired private AccountEventService accountEventService;
+	@Autowired private TransactionService transactionService;
+	@Autowired private BankAccountService bankAccountService;
+	@Autowired private UserService userService;
+	@Autowired private MeterRegistry meterRegistry;
+
+	@Test
+	void subscriberWhoseWritesBlockIsEvictedWithoutHoldingUpWriters() throws Exception {
+		String email = TestAccounts.user(userService);
+		String accountNumber = TestAccounts.account(bankAccountService, email);
+		double evictedBefore = meterRegistry.get("eaglebank.account.events.evicted").counter().count();
+
+		StalledEmitter emitter = (StalledEmitter) accountEventService.subscribe(accountNumber, email);
+		ExecutorService writer = Executors.newSingleThreadExecutor();
+		try {
+			// The initial balance event is being written and the write does not finish
+			assertThat(emitter.writing.await(10, TimeUnit.SECONDS)).isTrue();
+
+			// Each transaction queues two events: the first fills the queue of two, the second overflows it
+			Future<?> writes = writer.submit(() -> {
+				for (int i = 0; i < 2; i++) {
+					transactionService.createTransaction(accountNumber,
+							new CreateTransactionRequest(new BigDecimal("1.00"), "GBP", TransactionType.deposit, "sse"), email);
+				}
+			});
+			writes.get(5, TimeUnit.SECONDS);
+
+			assertThat(meterRegistry.get("eaglebank.account.events.evicted").counter().count())
+					.isEqualTo(evictedBefore + 1);
+		} finally {
+			emitter.release.countDown();
+			writer.shutdownNow();
+		}
+	}
+
+	@TestConfiguration
+	static class StalledEmitterConfig {
+
+		@Bean
+		@Primary
+		AccountEventServiceImpl stalledAccountEventService(MeterRegistry meterRegistry) {
+			return new AccountEventServiceImpl(meterRegistry, 2, 100, Duration.ofMinutes(1)) {
+				@Override
+				SseEmitter createEmitter() {
+					return new StalledEmitter();
+				}
+			};
+		}
+	}
+
+	// A client that stopped reading: send() holds the emitter's write lock until released, and
+	// complete() needs the same lock, as with a real emitter writing to a full socket
+	static class StalledEmitter extends SseEmitter {
+
+		final CountDownLatch writing = new CountDownLatch(1);
+		final CountDownLatch release = new CountDownLatch(1);
+		private final ReentrantLock writeLock = new ReentrantLock();
+
+		@Override
+		public void send(SseEventBuilder builder) throws IOException {
+			writeLock.lock();
+			try {
+				writing.countDown();
+				release.await(30, TimeUnit.SECONDS);
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			} finally {
+				writeLock.unlock();
+			}
+		}
+
+		@Override
+		public void complete() {
+			writeLock.lock();
+			try {
+				super.complete();
+			} finally {
+				writeLock.unlock();
+			}
+		}
+	}
+}
@@ -0,0 +1,41 @@
+package com.eaglebank.api.service.id;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import com.eaglebank.api.utils.IdentifierFormats;
+
+@SpringBootTest
+class IdGeneratorImplTests {
+
+	@Autowired private IdGenerator idGenerator;
+
+	@Test
+	void transactionIdsAreValidAndIncreasing() {
+		List<String> ids = new ArrayList<>();
+		for (int i = 0; i < 10_000; i++) {
+			ids.add(idGenerator.nextTransactionId());
+		}
+
+		assertThat(ids).allMatch(IdentifierFormats::isTransactionId);
+		assertThat(ids).isSorted().doesNotHaveDuplicates();
+	}
+
+	@Test
+	void accountNumbersAreUniqueAcrossBlocks() {
+		Set<String> accountNumbers = new HashSet<>();
+		for (int i = 0; i < IdGeneratorImpl.ACCOUNT_NUMBER_BLOCK_SIZE * 3; i++) {
+			String accountNumber = idGenerator.nextAccountNumber();
+			assertThat(IdentifierFormats.isAccountNumber(accountNumber)).isTrue();
+			assertThat(accountNumbers.add(accountNumber)).isTrue();
+		}
+	}
+}
@@ -0,0 +1,72 @@
+package com.eaglebank.api.service.importer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.UUID;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import com.eaglebank.api.TestAccounts;
+import com.eaglebank.api.dto.transaction.TransactionResponse;
+import com.eaglebank.api.service.account.BankAccountService;
+import com.eaglebank.api.service.transaction.TransactionService;
+import com.eaglebank.api.service.user.UserService;
+
+@SpringBootTest(properties = "eaglebank.import.chunk-size=2")
+class TransactionImportServiceTests {
+
+	@Autowired private TransactionImportService transactionImportService;
+	@Autowired private TransactionService transactionService;
+	@Autowired private BankAccountService bankAccountService;
+	@Autowired private UserService userService;
+
+	@TempDir private Path tempDir;
+
+	@Test
+	void csvImportAppliesValidRowsRejectsTheRestAndResumesFromItsCheckpoint() throws Exception {
+		String email = TestAccounts.user(userService);
+		String accountNumber = TestAccounts.account(bankAccountService, email);
+		Path file = tempDir.resolve("ledger.csv");
+		Files.write(file, List.of(
+				"id,accountNumber,type,amount,currency,reference,createdTimestamp",
+				"old-1," + accountNumber + ",deposit,100.00,GBP,opening,2024-01-05T10:00:00.000Z",
+				"old-2," + accountNumber + ",withdrawal,500.00,GBP,too much,2024-01-06T10:00:00",
+				"old-3," + accountNumber + ",refund,5.00,GBP,,2024-01-07T10:00:00",
+				"old-4," + accountNumber + ",withdrawal,30.00,GBP,\"'=rent\",2024-01-08T10:00:00",
+				"old-5,01999999,deposit,1.00,GBP,,2024-01-09T10:00:00",
+				"old-6," + accountNumber + ",deposit,9935.00,GBP,over the cap,2024-01-10T10:00:00",
+				"old-7," + accountNumber + ",deposit,9930.00,GBP,up to the cap,2024-01-11T10:00:00"),
+				StandardCharsets.UTF_8);
+		String importId = "import-" + UUID.randomUUID();
+
+		ImportSummary summary = transactionImportService.importTransactions(file, ImportFormat.CSV, importId);
+
+		assertThat(summary.getLinesProcessed()).isEqualTo(8);
+		assertThat(summary.getImportedCount()).isEqualTo(3);
+		assertThat(summary.getRejectedCount()).isEqualTo(4);
+		assertThat(Files.readAllLines(tempDir.resolve("ledger.csv.rejects.ndjson"))).containsExactly(
+				"{\"line\":3,\"reason\":\"Insufficient funds to process transaction\"}",
+				"{\"line\":4,\"reason\":\"type: must be deposit or withdrawal\"}",
+				"{\"line\":6,\"reason\":\"Bank account was not found\"}",
+				"{\"line\":7,\"reason\":\"Deposit would take the balance above 10000.00\"}");
+		List<TransactionResponse> transactions =
+				transactionService.getTransactionsForAccount(accountNumber, email).getTransactions();
+		assertThat(transactions).extracting(TransactionResponse::getReference).containsExactly("up to the cap", "=rent", "opening");
+		assertThat(bankAccountService.getBankAccountByAccountNumber(accountNumber, email).getBalance())
+				.isEqualByComparingTo("10000.00");
+
+		ImportSummary rerun = transactionImportService.importTransactions(file, ImportFormat.CSV, importId);
+
+		assertThat(rerun.getResumedFromLine()).isEqualTo(8);
+		assertThat(rerun.getImportedCount()).isEqualTo(3);
+		assertThat(bankAccountService.getBankAccountByAccountNumber(accountNumber, email).getBalance())
+				.isEqualByComparingTo("10000.00");
+	}
+}
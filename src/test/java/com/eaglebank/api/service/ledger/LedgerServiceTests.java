@@ -0,0 +1,102 @@
+package com.eaglebank.api.service.ledger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import com.eaglebank.api.TestAccounts;
+import com.eaglebank.api.dto.transaction.CreateTransactionRequest;
+import com.eaglebank.api.model.account.BankAccount;
+import com.eaglebank.api.model.transaction.Transaction;
+import com.eaglebank.api.model.transaction.TransactionType;
+import com.eaglebank.api.repository.BankAccountRepository;
+import com.eaglebank.api.repository.TransactionRepository;
+import com.eaglebank.api.service.account.BankAccountService;
+import com.eaglebank.api.service.transaction.TransactionService;
+import com.eaglebank.api.service.user.UserService;
+
+import jakarta.persistence.EntityManagerFactory;
+
+@SpringBootTest(properties = "eaglebank.ledger.reconciler.enabled=false")
+class LedgerServiceTests {
+
+	@Autowired private LedgerService ledgerService;
+	@Autowired private TransactionService transactionService;
+	@Autowired private BankAccountService bankAccountService;
+	@Autowired private UserService userService;
+	@Autowired private TransactionRepository transactionRepository;
+	@Autowired private BankAccountRepository bankAccountRepository;
+	@Autowired private JdbcTemplate jdbcTemplate;
+	@Autowired private EntityManagerFactory entityManagerFactory;
+
+	@Test
+	void postedTransactionsGetConsecutiveSequenceNumbersAndRunningBalances() {
+		String email = TestAccounts.user(userService);
+		String accountNumber = createHistory(email);
+
+		List<Transaction> journal = journal(accountNumber);
+
+		assertThat(journal).extracting(Transaction::getSequenceNumber).containsExactly(1L, 2L, 3L);
+		assertThat(journal).extracting(Transaction::getBalanceAfter)
+				.usingElementComparator(BigDecimal::compareTo)
+				.containsExactly(new BigDecimal("100.00"), new BigDecimal("70.00"), new BigDecimal("75.00"));
+		assertThat(bankAccountRepository.findById(accountNumber).orElseThrow().getLastSequenceNumber()).isEqualTo(3);
+	}
+
+	@Test
+	void balanceAtReturnsTheRunningBalanceAsOfThatTime() {
+		String email = TestAccounts.user(userService);
+		String accountNumber = createHistory(email);
+		LocalDateTime start = LocalDateTime.now().minusDays(10);
+		for (Transaction transaction : journal(accountNumber)) {
+			jdbcTemplate.update("UPDATE transactions SET created_timestamp = ? WHERE id = ?",
+					Timestamp.valueOf(start.plusDays(transaction.getSequenceNumber())), transaction.getId());
+		}
+		BankAccount account = bankAccountRepository.findById(accountNumber).orElseThrow();
+
+		assertThat(ledgerService.getBalanceAt(account, start)).isEqualByComparingTo("0");
+		assertThat(ledgerService.getBalanceAt(account, start.plusDays(1))).isEqualByComparingTo("100.00");
+		assertThat(ledgerService.getBalanceAt(account, start.plusDays(2).plusHours(12))).isEqualByComparingTo("70.00");
+		assertThat(ledgerService.getBalanceAt(account, null)).isEqualByComparingTo("75.00");
+	}
+
+	@Test
+	void reconciliationDetectsABalanceThatDriftedFromTheJournal() {
+		String email = TestAccounts.user(userService);
+		String accountNumber = createHistory(email);
+
+		assertThat(ledgerService.reconcileAccount(accountNumber)).isTrue();
+
+		jdbcTemplate.update("UPDATE bank_accounts SET balance = balance + 1 WHERE account_number = ?", accountNumber);
+		entityManagerFactory.getCache().evict(BankAccount.class, accountNumber);
+
+		assertThat(ledgerService.reconcileAccount(accountNumber)).isFalse();
+	}
+
+	// Deposits 100.00, withdraws 30.00 and deposits 5.00, leaving 75.00
+	private String createHistory(String email) {
+		String accountNumber = TestAccounts.account(bankAccountService, email);
+		transactionService.createTransaction(accountNumber, request(TransactionType.deposit, "100.00"), email);
+		transactionService.createTransaction(accountNumber, request(TransactionType.withdrawal, "30.00"), email);
+		transactionService.createTransaction(accountNumber, request(TransactionType.deposit, "5.00"), email);
+		return accountNumber;
+	}
+
+	private List<Transaction> journal(String accountNumber) {
+		return transactionRepository.findByAccountNumberAndSequenceNumberBetweenOrderBySequenceNumberAsc(
+				accountNumber, 1L, Long.MAX_VALUE, PageRequest.of(0, 100));
+	}
+
+	private static CreateTransactionRequest request(TransactionType type, String amount) {
+		return new CreateTransactionRequest(new BigDecimal(amount), "GBP", type, null);
+	}
+}
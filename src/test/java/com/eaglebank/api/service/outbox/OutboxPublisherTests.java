@@ -0,0 +1,75 @@
+package com.eaglebank.api.service.outbox;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+
+import com.eaglebank.api.TestAccounts;
+import com.eaglebank.api.dto.transaction.CreateTransactionRequest;
+import com.eaglebank.api.dto.transaction.TransactionResponse;
+import com.eaglebank.api.model.outbox.OutboxEvent;
+import com.eaglebank.api.model.transaction.TransactionType;
+import com.eaglebank.api.repository.OutboxEventRepository;
+import com.eaglebank.api.service.account.BankAccountService;
+import com.eaglebank.api.service.transaction.TransactionService;
+import com.eaglebank.api.service.user.UserService;
+
+@SpringBootTest(properties = {
+		"eaglebank.outbox.file-sink.enabled=false",
+		"eaglebank.outbox.poll-interval-ms=3600000"
+})
+class OutboxPublisherTests {
+
+	@Autowired private OutboxPublisher outboxPublisher;
+	@Autowired private OutboxEventRepository outboxEventRepository;
+	@Autowired private RecordingSink recordingSink;
+	@Autowired private TransactionService transactionService;
+	@Autowired private BankAccountService bankAccountService;
+	@Autowired private UserService userService;
+
+	@Test
+	void createdTransactionIsPublishedOnceAndRemovedFromTheOutbox() {
+		String email = TestAccounts.user(userService);
+		String accountNumber = TestAccounts.account(bankAccountService, email);
+
+		TransactionResponse transaction = transactionService.createTransaction(accountNumber,
+				new CreateTransactionRequest(new BigDecimal("25.00"), "GBP", TransactionType.deposit, "outbox"), email);
+		outboxPublisher.drain();
+		outboxPublisher.drain();
+
+		List<OutboxEvent> published = recordingSink.events.stream()
+				.filter(event -> event.getAggregateId().equals(accountNumber))
+				.toList();
+		assertThat(published).hasSize(1);
+		assertThat(published.get(0).getEventType()).isEqualTo(OutboxServiceImpl.TRANSACTION_CREATED);
+		assertThat(published.get(0).getPayload()).contains(transaction.getId());
+		assertThat(outboxEventRepository.findById(published.get(0).getId())).isEmpty();
+	}
+
+	@TestConfiguration
+	static class SinkConfig {
+
+		@Bean
+		RecordingSink recordingSink() {
+			return new RecordingSink();
+		}
+	}
+
+	static class RecordingSink implements OutboxSink {
+
+		final List<OutboxEvent> events = new CopyOnWriteArrayList<>();
+
+		@Override
+		public void publish(List<OutboxEvent> batch) {
+			events.addAll(batch);
+		}
+	}
+}
@@ -0,0 +1,55 @@
+package com.eaglebank.api.service.statement;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import com.eaglebank.api.TestAccounts;
+import com.eaglebank.api.dto.statement.StatementResponse;
+import com.eaglebank.api.dto.transaction.BatchTransactionRequest;
+import com.eaglebank.api.dto.transaction.CreateTransactionRequest;
+import com.eaglebank.api.model.statement.StatementPeriod;
+import com.eaglebank.api.model.transaction.TransactionType;
+import com.eaglebank.api.service.account.BankAccountService;
+import com.eaglebank.api.service.transaction.TransactionService;
+import com.eaglebank.api.service.user.UserService;
+
+@SpringBootTest
+class StatementServiceTests {
+
+	@Autowired private StatementService statementService;
+	@Autowired private TransactionService transactionService;
+	@Autowired private BankAccountService bankAccountService;
+	@Autowired private UserService userService;
+
+	@Test
+	void singleAndBatchTransactionsAreRolledUpPerDayAndMonth() {
+		String email = TestAccounts.user(userService);
+		String accountNumber = TestAccounts.account(bankAccountService, email);
+
+		transactionService.createTransaction(accountNumber,
+				new CreateTransactionRequest(new BigDecimal("100.00"), "GBP", TransactionType.deposit, "salary"), email);
+		transactionService.createTransactions(List.of(
+				new BatchTransactionRequest(accountNumber, new BigDecimal("30.00"), "GBP", TransactionType.withdrawal, "rent"),
+				new BatchTransactionRequest(accountNumber, new BigDecimal("5.00"), "GBP", TransactionType.deposit, "refund")),
+				email);
+
+		LocalDate today = LocalDate.now();
+		for (StatementPeriod period : StatementPeriod.values()) {
+			StatementResponse statement = statementService.getStatement(accountNumber, today, today, period, email);
+
+			assertThat(statement.getPeriods()).hasSize(1);
+			assertThat(statement.getDepositTotal()).isEqualByComparingTo("105.00");
+			assertThat(statement.getDepositCount()).isEqualTo(2);
+			assertThat(statement.getWithdrawalTotal()).isEqualByComparingTo("30.00");
+			assertThat(statement.getWithdrawalCount()).isEqualTo(1);
+			assertThat(statement.getNet()).isEqualByComparingTo("75.00");
+		}
+	}
+}
@@ -0,0 +1,102 @@
+package com.eaglebank.api.service.transaction;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+import com.eaglebank.api.exception.ResourceConflictException;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class IdempotencyStoreTests {
+
+	private final IdempotencyStore store = new IdempotencyStore(new SimpleMeterRegistry(), Duration.ofMinutes(1), 100);
+
+	@Test
+	void concurrentDuplicatesRunTheOperationOnce() throws Exception {
+		AtomicInteger executions = new AtomicInteger();
+		CountDownLatch started = new CountDownLatch(1);
+		CountDownLatch release = new CountDownLatch(1);
+		CountDownLatch arrived = new CountDownLatch(7);
+		List<Thread> duplicateThreads = new CopyOnWriteArrayList<>();
+		ExecutorService executor = Executors.newFixedThreadPool(8);
+		try {
+			List<Future<String>> results = new ArrayList<>();
+			results.add(executor.submit(() -> store.execute("key", "request", () -> {
+				executions.incrementAndGet();
+				started.countDown();
+				await(release);
+				return "tan-1";
+			})));
+			assertThat(started.await(10, TimeUnit.SECONDS)).isTrue();
+
+			// The first call is now in flight; every duplicate has to wait for its result
+			for (int i = 0; i < 7; i++) {
+				results.add(executor.submit(() -> {
+					duplicateThreads.add(Thread.currentThread());
+					arrived.countDown();
+					return store.execute("key", "request", () -> {
+						executions.incrementAndGet();
+						return "tan-2";
+					});
+				}));
+			}
+			assertThat(arrived.await(10, TimeUnit.SECONDS)).isTrue();
+			awaitWaiting(duplicateThreads);
+			release.countDown();
+
+			for (Future<String> result : results) {
+				assertThat(result.get(10, TimeUnit.SECONDS)).isEqualTo("tan-1");
+			}
+			assertThat(executions.get()).isEqualTo(1);
+		} finally {
+			executor.shutdownNow();
+		}
+	}
+
+	@Test
+	void reusingAKeyForADifferentRequestIsRejected() {
+		store.execute("key", "request", () -> "tan-1");
+
+		assertThatThrownBy(() -> store.execute("key", "other request", () -> "tan-2"))
+				.isInstanceOf(ResourceConflictException.class);
+	}
+
+	@Test
+	void failedOperationsCanBeRetried() {
+		assertThatThrownBy(() -> store.execute("key", "request", () -> {
+			throw new IllegalStateException("boom");
+		})).isInstanceOf(IllegalStateException.class);
+
+		assertThat(store.execute("key", "request", () -> "tan-1")).isEqualTo("tan-1");
+	}
+
+	// Blocked in join() on the in-flight future
+	private static void awaitWaiting(List<Thread> threads) throws InterruptedException {
+		long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+		while (!threads.stream().allMatch(thread -> thread.getState() == Thread.State.WAITING)) {
+			assertThat(System.nanoTime()).as("duplicates waiting on the first call").isLessThan(deadline);
+			Thread.sleep(10);
+		}
+	}
+
+	private static void await(CountDownLatch latch) {
+		try {
+			latch.await(10, TimeUnit.SECONDS);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+}
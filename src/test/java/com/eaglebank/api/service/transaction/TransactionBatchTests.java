@@ -0,0 +1,50 @@
+package com.eaglebank.api.service.transaction;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import com.eaglebank.api.TestAccounts;
+import com.eaglebank.api.dto.transaction.BatchTransactionRequest;
+import com.eaglebank.api.dto.transaction.BatchTransactionResult;
+import com.eaglebank.api.dto.transaction.CreateTransactionBatchResponse;
+import com.eaglebank.api.model.transaction.TransactionType;
+import com.eaglebank.api.service.account.BankAccountService;
+import com.eaglebank.api.service.user.UserService;
+
+@SpringBootTest
+class TransactionBatchTests {
+
+	@Autowired private TransactionService transactionService;
+	@Autowired private BankAccountService bankAccountService;
+	@Autowired private UserService userService;
+
+	@Test
+	void depositAboveTheBalanceCapFailsOnlyItsOwnItem() {
+		String email = TestAccounts.user(userService);
+		String accountNumber = TestAccounts.account(bankAccountService, email);
+
+		CreateTransactionBatchResponse response = transactionService.createTransactions(List.of(
+				request(accountNumber, TransactionType.deposit, "6000.00"),
+				request(accountNumber, TransactionType.deposit, "5000.00"),
+				request(accountNumber, TransactionType.withdrawal, "1000.00"),
+				request(accountNumber, TransactionType.deposit, "5000.01")),
+				email);
+
+		assertThat(response.getResults()).extracting(BatchTransactionResult::getStatus)
+				.containsExactly(201, 422, 201, 422);
+		assertThat(response.getResults().get(1).getMessage())
+				.isEqualTo("Deposit would take the balance above 10000.00");
+		assertThat(bankAccountService.getBankAccountByAccountNumber(accountNumber, email).getBalance())
+				.isEqualByComparingTo("5000.00");
+	}
+
+	private static BatchTransactionRequest request(String accountNumber, TransactionType type, String amount) {
+		return new BatchTransactionRequest(accountNumber, new BigDecimal(amount), "GBP", type, null);
+	}
+}
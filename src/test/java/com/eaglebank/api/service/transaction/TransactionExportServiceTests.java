@@ -0,0 +1,66 @@
+package com.eaglebank.api.service.transaction;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.ByteArrayOutputStream;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import com.eaglebank.api.TestAccounts;
+import com.eaglebank.api.dto.transaction.CreateTransactionRequest;
+import com.eaglebank.api.model.transaction.TransactionType;
+import com.eaglebank.api.service.account.BankAccountService;
+import com.eaglebank.api.service.user.UserService;
+
+@SpringBootTest
+class TransactionExportServiceTests {
+
+	@Autowired private TransactionExportService transactionExportService;
+	@Autowired private TransactionService transactionService;
+	@Autowired private BankAccountService bankAccountService;
+	@Autowired private UserService userService;
+
+	@Test
+	void csvExportIsInJournalOrderAndEscapesReferences() throws Exception {
+		String email = TestAccounts.user(userService);
+		String accountNumber = TestAccounts.account(bankAccountService, email);
+		transactionService.createTransaction(accountNumber,
+				new CreateTransactionRequest(new BigDecimal("100.00"), "GBP", TransactionType.deposit, "rent, \"May\""), email);
+		transactionService.createTransaction(accountNumber,
+				new CreateTransactionRequest(new BigDecimal("30.00"), "GBP", TransactionType.withdrawal, "=SUM(A1:A2)"), email);
+
+		String[] lines = export(accountNumber, email, TransactionExportFormat.CSV).split("\r\n");
+
+		assertThat(lines).hasSize(3);
+		assertThat(lines[0]).isEqualTo(
+				"id,accountNumber,sequenceNumber,type,amount,currency,balanceAfter,reference,userId,createdTimestamp");
+		assertThat(lines[1]).contains(",1,deposit,100.00,GBP,100.00,\"rent, \"\"May\"\"\",");
+		assertThat(lines[2]).contains(",2,withdrawal,30.00,GBP,70.00,\"'=SUM(A1:A2)\",");
+	}
+
+	@Test
+	void ndjsonExportWritesOneObjectPerTransaction() throws Exception {
+		String email = TestAccounts.user(userService);
+		String accountNumber = TestAccounts.account(bankAccountService, email);
+		transactionService.createTransaction(accountNumber,
+				new CreateTransactionRequest(new BigDecimal("12.50"), "GBP", TransactionType.deposit, null), email);
+
+		String[] lines = export(accountNumber, email, TransactionExportFormat.NDJSON).split("\n");
+
+		assertThat(lines).hasSize(1);
+		assertThat(lines[0]).startsWith("{\"id\":\"tan-")
+				.contains("\"accountNumber\":\"" + accountNumber + "\",\"sequenceNumber\":1,\"type\":\"deposit\"")
+				.contains("\"amount\":12.50,\"currency\":\"GBP\",\"balanceAfter\":12.50,\"reference\":null")
+				.endsWith("Z\"}");
+	}
+
+	private String export(String accountNumber, String email, TransactionExportFormat format) throws Exception {
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		transactionExportService.exportTransactions(accountNumber, email, format, () -> out);
+		return out.toString(StandardCharsets.UTF_8);
+	}
+}
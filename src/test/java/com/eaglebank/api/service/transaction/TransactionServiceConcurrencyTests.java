@@ -0,0 +1,139 @@
+package com.eaglebank.api.service.transaction;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import com.eaglebank.api.TestAccounts;
+import com.eaglebank.api.dto.transaction.CreateTransactionRequest;
+import com.eaglebank.api.exception.InsufficientFundsException;
+import com.eaglebank.api.model.transaction.TransactionType;
+import com.eaglebank.api.repository.BankAccountRepository;
+import com.eaglebank.api.service.account.BankAccountService;
+import com.eaglebank.api.service.user.UserService;
+
+@SpringBootTest
+class TransactionServiceConcurrencyTests {
+
+	private static final Logger logger = LoggerFactory.getLogger(TransactionServiceConcurrencyTests.class);
+
+	private static final int THREADS = 8;
+	private static final int OPERATIONS_PER_THREAD = 50;
+
+	@Autowired private TransactionService transactionService;
+	@Autowired private BankAccountService bankAccountService;
+	@Autowired private UserService userService;
+	@Autowired private BankAccountRepository bankAccountRepository;
+
+	@Test
+	void concurrentDepositsToOneAccountAreNotLost() throws Exception {
+		String email = TestAccounts.user(userService);
+		String accountNumber = TestAccounts.account(bankAccountService, email);
+
+		runConcurrently(THREADS, () -> {
+			for (int i = 0; i < OPERATIONS_PER_THREAD; i++) {
+				transactionService.createTransaction(accountNumber, request(TransactionType.deposit, "1.00"), email);
+			}
+			return null;
+		}, "single account deposits", THREADS * OPERATIONS_PER_THREAD);
+
+		assertThat(balanceOf(accountNumber))
+				.isEqualByComparingTo(BigDecimal.valueOf(THREADS * OPERATIONS_PER_THREAD));
+	}
+
+	@Test
+	void concurrentWithdrawalsNeverOverdrawAnAccount() throws Exception {
+		String email = TestAccounts.user(userService);
+		String accountNumber = TestAccounts.account(bankAccountService, email);
+		transactionService.createTransaction(accountNumber, request(TransactionType.deposit, "100.00"), email);
+
+		AtomicInteger accepted = new AtomicInteger();
+		AtomicInteger rejected = new AtomicInteger();
+		runConcurrently(THREADS, () -> {
+			for (int i = 0; i < OPERATIONS_PER_THREAD; i++) {
+				try {
+					transactionService.createTransaction(accountNumber, request(TransactionType.withdrawal, "1.00"), email);
+					accepted.incrementAndGet();
+				} catch (InsufficientFundsException e) {
+					rejected.incrementAndGet();
+				}
+			}
+			return null;
+		}, "single account withdrawals", THREADS * OPERATIONS_PER_THREAD);
+
+		assertThat(accepted.get()).isEqualTo(100);
+		assertThat(rejected.get()).isEqualTo(THREADS * OPERATIONS_PER_THREAD - 100);
+		assertThat(balanceOf(accountNumber)).isEqualByComparingTo(BigDecimal.ZERO);
+	}
+
+	@Test
+	void depositsToDifferentAccountsRunInParallel() throws Exception {
+		String email = TestAccounts.user(userService);
+		List<String> accountNumbers = new ArrayList<>();
+		for (int i = 0; i < THREADS; i++) {
+			accountNumbers.add(TestAccounts.account(bankAccountService, email));
+		}
+
+		AtomicInteger nextAccount = new AtomicInteger();
+		runConcurrently(THREADS, () -> {
+			String accountNumber = accountNumbers.get(nextAccount.getAndIncrement());
+			for (int i = 0; i < OPERATIONS_PER_THREAD; i++) {
+				transactionService.createTransaction(accountNumber, request(TransactionType.deposit, "1.00"), email);
+			}
+			return null;
+		}, "per-thread account deposits", THREADS * OPERATIONS_PER_THREAD);
+
+		for (String accountNumber : accountNumbers) {
+			assertThat(balanceOf(accountNumber)).isEqualByComparingTo(BigDecimal.valueOf(OPERATIONS_PER_THREAD));
+		}
+	}
+
+	private void runConcurrently(int threads, Callable<Void> task, String label, int operations) throws Exception {
+		ExecutorService executor = Executors.newFixedThreadPool(threads);
+		CountDownLatch start = new CountDownLatch(1);
+		List<Future<Void>> futures = new ArrayList<>();
+		try {
+			for (int i = 0; i < threads; i++) {
+				futures.add(executor.submit(() -> {
+					start.await();
+					return task.call();
+				}));
+			}
+
+			long startNanos = System.nanoTime();
+			start.countDown();
+			for (Future<Void> future : futures) {
+				future.get(60, TimeUnit.SECONDS);
+			}
+			long elapsedNanos = System.nanoTime() - startNanos;
+
+			logger.info("{}: {} operations on {} threads in {} ms ({} ops/s)", label, operations, threads,
+					TimeUnit.NANOSECONDS.toMillis(elapsedNanos), operations * 1_000_000_000L / Math.max(1, elapsedNanos));
+		} finally {
+			executor.shutdownNow();
+		}
+	}
+
+	private CreateTransactionRequest request(TransactionType type, String amount) {
+		return new CreateTransactionRequest(new BigDecimal(amount), "GBP", type, "contention-test");
+	}
+
+	private BigDecimal balanceOf(String accountNumber) {
+		return bankAccountRepository.findById(accountNumber).orElseThrow().getBalance();
+	}
+}
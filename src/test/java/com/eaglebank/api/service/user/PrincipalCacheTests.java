@@ -0,0 +1,56 @@
+package com.eaglebank.api.service.user;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+import com.eaglebank.api.model.user.AuthenticatedUser;
+import com.eaglebank.api.model.user.User;
+
+class PrincipalCacheTests {
+
+	private static final String EMAIL = "principal@example.com";
+
+	@Test
+	void loadThatOverlapsAnInvalidateIsNotCached() throws Exception {
+		CountDownLatch loading = new CountDownLatch(1);
+		CountDownLatch release = new CountDownLatch(1);
+		AtomicInteger loads = new AtomicInteger();
+		PrincipalCache cache = new PrincipalCache(Duration.ofMinutes(5), 100) {
+			@Override
+			Optional<User> load(String email) {
+				int load = loads.incrementAndGet();
+				if (load == 1) {
+					loading.countDown();
+					await(release);
+				}
+				return Optional.of(new User("usr-" + load, "Principal User", null, "+447700900000", email));
+			}
+		};
+
+		CompletableFuture<AuthenticatedUser> stale = CompletableFuture.supplyAsync(() -> cache.get(EMAIL));
+		assertThat(loading.await(10, TimeUnit.SECONDS)).isTrue();
+		cache.invalidate(EMAIL);
+		release.countDown();
+
+		assertThat(stale.get(10, TimeUnit.SECONDS).getId()).isEqualTo("usr-1");
+		assertThat(cache.get(EMAIL).getId()).isEqualTo("usr-2");
+		assertThat(cache.get(EMAIL).getId()).isEqualTo("usr-2");
+		assertThat(loads.get()).isEqualTo(2);
+	}
+
+	private static void await(CountDownLatch latch) {
+		try {
+			latch.await(10, TimeUnit.SECONDS);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+}
@@ -0,0 +1,40 @@
+package com.eaglebank.api.utils;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.regex.Pattern;
+
+import org.junit.jupiter.api.Test;
+
+class IdentifierFormatsTests {
+
+	private static final Pattern ACCOUNT_NUMBER = Pattern.compile("^01\\d{6}$");
+	private static final Pattern TRANSACTION_ID = Pattern.compile("^tan-[A-Za-z0-9]+$");
+	private static final Pattern USER_ID = Pattern.compile("^usr-[A-Za-z0-9]+$");
+
+	private static final String[] SAMPLES = {
+		"", "0", "01", "0123456", "01234567", "012345678", "02345678", "11234567", "0123456x", "01\u066345678",
+		"tan-", "tan-a", "tan-1a2B3c", "tan-1a2b-3c", "tan-\u00e4", "TAN-abc", "tan_abc", " tan-abc", "tan-abc ",
+		"usr-", "usr-a", "usr-0123456789abcdef", "usr-abc!", "usr--abc", "usrx-abc", "tan-01234567"
+	};
+
+	// The scanners must accept exactly what the spec's regular expressions accept
+	@Test
+	void scannersAgreeWithTheSpecPatterns() {
+		for (String sample : SAMPLES) {
+			assertThat(IdentifierFormats.isAccountNumber(sample)).as(sample)
+					.isEqualTo(ACCOUNT_NUMBER.matcher(sample).matches());
+			assertThat(IdentifierFormats.isTransactionId(sample)).as(sample)
+					.isEqualTo(TRANSACTION_ID.matcher(sample).matches());
+			assertThat(IdentifierFormats.isUserId(sample)).as(sample)
+					.isEqualTo(USER_ID.matcher(sample).matches());
+		}
+	}
+
+	@Test
+	void nullIsNeverAValidIdentifier() {
+		assertThat(IdentifierFormats.isAccountNumber(null)).isFalse();
+		assertThat(IdentifierFormats.isTransactionId(null)).isFalse();
+		assertThat(IdentifierFormats.isUserId(null)).isFalse();
+	}
+}
@@ -0,0 +1,179 @@
+#!/bin/bash
+
+# Load test for the transaction endpoints, used to compare platform and virtual request threads.
+#
+# Start the API in the mode under test, then run this script with a label for that mode:
+#   cd .. && ./gradlew bootRun                                          # platform threads
+#   cd .. && ./gradlew bootRun --args='--spring.profiles.active=virtual' # virtual threads
+#   ./load-test.sh platform
+#   ./load-test.sh virtual
+#
+# Each run steps through increasing concurrency against
+#   GET  /v1/accounts/{accountNumber}/transactions?limit=50
+#   POST /v1/accounts/{accountNumber}/transactions  (deposits and withdrawals at the same rate)
+# and appends one line per step to results/load-<mode>.csv. The max sustainable RPS is the highest
+# throughput reached while the p99 latency stays under P99_SLO_MS and no requests fail.
+#
+# Requires hey (https://github.com/rakyll/hey).
+
+MODE=${1:-platform}
+BASE_URL=${BASE_URL:-"http://localhost:8080"}
+DURATION=${DURATION:-20s}
+CONCURRENCY_LEVELS=${CONCURRENCY_LEVELS:-"25 50 100 200 400 800"}
+P99_SLO_MS=${P99_SLO_MS:-200}
+RESULTS_DIR="$(dirname "$0")/results"
+RESULTS_FILE="$RESULTS_DIR/load-$MODE.csv"
+
+if ! command -v hey > /dev/null; then
+  echo "hey is required: go install github.com/rakyll/hey@latest"
+  exit 1
+fi
+
+echo "=== Eagle Bank load test ($MODE) ==="
+echo
+
+# Set up a user, token and account with some history to page through
+EMAIL="load-$(date +%s)@example.com"
+curl -s -o /dev/null -X POST "$BASE_URL/v1/users" \
+  -H "Content-Type: application/json" \
+  -d "{
+    \"name\": \"Load Test User\",
+    \"email\": \"$EMAIL\",
+    \"password\": \"loadtestpassword123\",
+    \"phoneNumber\": \"+447700900000\",
+    \"address\": {
+      \"line1\": \"1 Load Street\",
+      \"town\": \"London\",
+      \"county\": \"Greater London\",
+      \"postcode\": \"E1 1AA\"
+    }
+  }"
+
+TOKEN=$(curl -s -X POST "$BASE_URL/v1/login" \
+  -H "Content-Type: application/json" \
+  -d "{\"email\": \"$EMAIL\", \"password\": \"loadtestpassword123\"}" \
+  | grep -o '"token":"[^"]*"' | cut -d'"' -f4)
+
+ACCOUNT_NUMBER=$(curl -s -X POST "$BASE_URL/v1/accounts" \
+  -H "Content-Type: application/json" \
+  -H "Authorization: Bearer $TOKEN" \
+  -d '{"name": "Load Test Account", "accountType": "CURRENT"}' \
+  | grep -o '"accountNumber":"[^"]*"' | cut -d'"' -f4)
+
+if [ -z "$TOKEN" ] || [ -z "$ACCOUNT_NUMBER" ]; then
+  echo "Could not create the test user and account, is the API running on $BASE_URL?"
+  exit 1
+fi
+
+for i in $(seq 1 200); do
+  curl -s -o /dev/null -X POST "$BASE_URL/v1/accounts/$ACCOUNT_NUMBER/transactions" \
+    -H "Content-Type: application/json" \
+    -H "Authorization: Bearer $TOKEN" \
+    -d '{"amount": 10.00, "currency": "GBP", "type": "deposit", "reference": "seed"}'
+done
+
+echo "Account $ACCOUNT_NUMBER seeded with 200 transactions"
+echo
+
+mkdir -p "$RESULTS_DIR"
+if [ ! -f "$RESULTS_FILE" ]; then
+  echo "endpoint,concurrency,rps,p50_ms,p99_ms,errors" > "$RESULTS_FILE"
+fi
+
+# Balance the create step starts from, far enough from both 0.00 and the 10000.00 cap that 0.01
+# deposits and withdrawals at the same rate cannot run into either limit
+START_BALANCE=5000.00
+
+# Brings the account back to START_BALANCE with a single deposit or withdrawal
+reset_balance() {
+  local balance type amount
+  balance=$(curl -s "$BASE_URL/v1/accounts/$ACCOUNT_NUMBER" -H "Authorization: Bearer $TOKEN" \
+    | grep -o '"balance":[0-9.]*' | cut -d: -f2)
+  read -r type amount <<< "$(awk -v balance="$balance" -v target="$START_BALANCE" 'BEGIN {
+    diff = target - balance
+    if (diff > 0) printf "deposit %.2f\n", diff
+    else if (diff < 0) printf "withdrawal %.2f\n", -diff
+  }')"
+  if [ -n "$type" ]; then
+    curl -s -o /dev/null -X POST "$BASE_URL/v1/accounts/$ACCOUNT_NUMBER/transactions" \
+      -H "Content-Type: application/json" \
+      -H "Authorization: Bearer $TOKEN" \
+      -d "{\"amount\": $amount, \"currency\": \"GBP\", \"type\": \"$type\", \"reference\": \"reset\"}"
+  fi
+}
+
+# Runs hey once and prints "rps,p50_ms,p99_ms,errors"
+run_step() {
+  local concurrency=$1
+  shift
+  hey -z "$DURATION" -c "$concurrency" -H "Authorization: Bearer $TOKEN" "$@" | awk '
+    /Requests\/sec:/ { rps = $2 }
+    /50% in/ { p50 = $3 * 1000 }
+    /99% in/ { p99 = $3 * 1000 }
+    /Status code distribution:/ { section = "status" }
+    /Error distribution:/ { section = "error" }
+    /^  \[[0-9]+\]/ {
+      n = substr($1, 2, length($1) - 2)
+      # Status lines are "[code] count responses", error lines are "[count] message"
+      if (section == "status" && n !~ /^2/) errors += $2
+      if (section == "error") errors += n
+    }
+    END { printf "%.1f,%.1f,%.1f,%d\n", rps, p50, p99, errors + 0 }'
+}
+
+# Half the connections deposit and half withdraw the same amount, so the balance stays near
+# START_BALANCE however many requests succeed. Prints the combined "rps,p50_ms,p99_ms,errors",
+# taking the worse of the two latencies.
+run_create_step() {
+  local concurrency=$1
+  local half=$(( concurrency / 2 > 0 ? concurrency / 2 : 1 ))
+  local url="$BASE_URL/v1/accounts/$ACCOUNT_NUMBER/transactions"
+  local deposits withdrawals
+  deposits=$(mktemp)
+  withdrawals=$(mktemp)
+
+  reset_balance
+  run_step "$half" -m POST -T "application/json" \
+    -d '{"amount": 0.01, "currency": "GBP", "type": "deposit", "reference": "load"}' "$url" > "$deposits" &
+  run_step "$half" -m POST -T "application/json" \
+    -d '{"amount": 0.01, "currency": "GBP", "type": "withdrawal", "reference": "load"}' "$url" > "$withdrawals" &
+  wait
+
+  cat "$deposits" "$withdrawals" | awk -F, '
+    { rps += $1; if ($2 > p50) p50 = $2; if ($3 > p99) p99 = $3; errors += $4 }
+    END { printf "%.1f,%.1f,%.1f,%d\n", rps, p50, p99, errors }'
+  rm -f "$deposits" "$withdrawals"
+}
+
+# Usage: run_endpoint <name> <step function> [step arguments...]
+run_endpoint() {
+  local name=$1
+  local step=$2
+  shift 2
+  local best_rps=0
+  local best_concurrency=0
+
+  echo "--- $name ---"
+  printf "%12s %10s %10s %10s %8s\n" "concurrency" "rps" "p50 ms" "p99 ms" "errors"
+  for concurrency in $CONCURRENCY_LEVELS; do
+    result=$($step "$concurrency" "$@")
+    IFS=, read -r rps p50 p99 errors <<< "$result"
+    printf "%12s %10s %10s %10s %8s\n" "$concurrency" "$rps" "$p50" "$p99" "$errors"
+    echo "$name,$concurrency,$result" >> "$RESULTS_FILE"
+
+    if [ "$errors" -eq 0 ] && awk -v p99="$p99" -v slo="$P99_SLO_MS" -v rps="$rps" -v best="$best_rps" \
+        'BEGIN { exit !(p99 <= slo && rps > best) }'; then
+      best_rps=$rps
+      best_concurrency=$concurrency
+    fi
+  done
+  echo "Max sustainable: $best_rps req/s at concurrency $best_concurrency (p99 <= ${P99_SLO_MS}ms)"
+  echo
+}
+
+run_endpoint "list" run_step "$BASE_URL/v1/accounts/$ACCOUNT_NUMBER/transactions?limit=50"
+
+# All writes hit one account, so this also measures how requests queue on its lock
+run_endpoint "create" run_create_step
+
+echo "=== Results appended to $RESULTS_FILE ==="